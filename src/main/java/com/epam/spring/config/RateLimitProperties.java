@@ -0,0 +1,35 @@
+package com.epam.spring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maxTrackedKeys = 100_000;
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String path;
+        private Limit ip;
+        private Limit username;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private long capacity;
+        private double refillPerMinute;
+    }
+}
@@ -1,18 +1,30 @@
 package com.epam.spring.config;
 
+import com.epam.spring.filter.RateLimitInterceptor;
 import com.epam.spring.logging.LoggingInterceptor;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @AllArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     private final LoggingInterceptor loggingInterceptor;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final RateLimitProperties rateLimitProperties;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(loggingInterceptor);
+        List<String> rateLimitedPaths = rateLimitProperties.getRoutes().values().stream()
+                .map(RateLimitProperties.Route::getPath)
+                .toList();
+        // An interceptor without path patterns matches every request
+        if (!rateLimitedPaths.isEmpty()) {
+            registry.addInterceptor(rateLimitInterceptor).addPathPatterns(rateLimitedPaths);
+        }
     }
 }
@@ -7,13 +7,24 @@ import com.epam.spring.dto.request.training.FetchTraineeTrainingsRequestDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainee.FetchTraineeResponseDTO;
 import com.epam.spring.dto.response.trainee.UpdateTraineeResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerPageDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
+import com.epam.spring.dto.response.training.FetchUserTrainingsPageDTO;
 import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
 import com.epam.spring.service.impl.TraineeService;
 import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingExporter;
 import com.epam.spring.service.impl.TrainingService;
+import com.epam.spring.service.impl.UserImportProcessor;
+import com.epam.spring.util.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -23,9 +34,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -36,12 +52,41 @@ public class TraineeController {
     private final TraineeService traineeService;
     private final TrainerService trainerService;
     private final TrainingService trainingService;
+    private final UserImportProcessor userImportProcessor;
+    private final TrainingExporter trainingExporter;
 
     @PostMapping
     public ResponseEntity<UserCredentialsResponseDTO> register(@Valid @RequestBody CreateTraineeRequestDTO request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(traineeService.create(request));
     }
 
+    @PostMapping(value = "/import",
+            consumes = {UserImportProcessor.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importTrainees(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        userImportProcessor.importTrainees(request.getInputStream(), request.getContentType(), response.getOutputStream());
+    }
+
+    @GetMapping(value = "/{username}/trainings/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportTraineeTrainings(@PathVariable("username") String username,
+                                                                        @RequestParam(value = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                                                        @RequestParam(value = "toDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                        HttpServletRequest request) {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+        trainingExporter.applyTimeout(request);
+        StreamingResponseBody body = trainingExporter.exportTraineeTrainings(username, fromDate, toDate, format);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(username + "-trainings." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{username}")
     public ResponseEntity<FetchTraineeResponseDTO> getTraineeProfile(@PathVariable("username") String username) {
         return ResponseEntity.ok(traineeService.getUserProfile(username));
@@ -59,13 +104,25 @@ public class TraineeController {
     }
 
     @GetMapping("/unassigned-trainers/{username}")
-    public ResponseEntity<List<TrainerResponseDTO>> findUnassignedTrainersByTraineeUsername(@PathVariable("username") String username) {
-        return ResponseEntity.ok(trainerService.findUnassignedTrainersByTraineeUsername(username));
+    public ResponseEntity<List<TrainerResponseDTO>> findUnassignedTrainersByTraineeUsername(@PathVariable("username") String username,
+                                                                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                            @RequestParam(value = "pageSize", required = false) @Positive(message = "Page size must be positive") Integer pageSize) {
+        TrainerPageDTO page = trainerService.findUnassignedTrainersByTraineeUsername(username, cursor, pageSize);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(TrainingController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTrainers());
     }
 
     @GetMapping("/trainings")
     public ResponseEntity<List<FetchUserTrainingsResponseDTO>> getTraineeTrainings(@Valid @RequestBody FetchTraineeTrainingsRequestDTO request) {
-        return ResponseEntity.ok(trainingService.findTraineeTrainings(request));
+        FetchUserTrainingsPageDTO page = trainingService.findTraineeTrainings(request);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(TrainingController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTrainings());
     }
 
     @PutMapping("/trainers")
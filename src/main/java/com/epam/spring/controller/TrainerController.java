@@ -5,12 +5,22 @@ import com.epam.spring.dto.request.trainer.UpdateTrainerRequestDTO;
 import com.epam.spring.dto.request.training.FetchTrainerTrainingsRequestDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainer.FetchTrainerResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.dto.response.trainer.UpdateTrainerResponseDTO;
+import com.epam.spring.dto.response.training.FetchUserTrainingsPageDTO;
 import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
 import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingExporter;
 import com.epam.spring.service.impl.TrainingService;
+import com.epam.spring.service.impl.UserImportProcessor;
+import com.epam.spring.util.ExportFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,9 +29,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -31,17 +46,52 @@ public class TrainerController {
 
     private final TrainerService trainerService;
     private final TrainingService trainingService;
+    private final UserImportProcessor userImportProcessor;
+    private final TrainingExporter trainingExporter;
 
     @PostMapping
     public ResponseEntity<UserCredentialsResponseDTO> register(@Valid @RequestBody CreateTrainerRequestDTO request) {
         return ResponseEntity.status(HttpStatus.CREATED).body(trainerService.create(request));
     }
 
+    @PostMapping(value = "/import",
+            consumes = {UserImportProcessor.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importTrainers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        userImportProcessor.importTrainers(request.getInputStream(), request.getContentType(), response.getOutputStream());
+    }
+
+    @GetMapping(value = "/{username}/trainings/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<StreamingResponseBody> exportTrainerTrainings(@PathVariable("username") String username,
+                                                                        @RequestParam(value = "fromDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                                                        @RequestParam(value = "toDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                                        HttpServletRequest request) {
+        ExportFormat format = ExportFormat.fromAccept(accept);
+        trainingExporter.applyTimeout(request);
+        StreamingResponseBody body = trainingExporter.exportTrainerTrainings(username, fromDate, toDate, format);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(username + "-trainings." + format.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{username}")
     public ResponseEntity<FetchTrainerResponseDTO> getTraineeProfile(@PathVariable("username") String username) {
         return ResponseEntity.ok(trainerService.getUserProfile(username));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<TrainerResponseDTO>> searchTrainers(@RequestParam("q") String query,
+                                                                   @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(trainerService.searchTrainers(query, limit));
+    }
+
     @PutMapping
     public ResponseEntity<UpdateTrainerResponseDTO> updateProfile(@Valid @RequestBody UpdateTrainerRequestDTO request) {
         return ResponseEntity.ok(trainerService.updateProfile(request));
@@ -49,6 +99,11 @@ public class TrainerController {
 
     @GetMapping("/trainings")
     public ResponseEntity<List<FetchUserTrainingsResponseDTO>> getTrainerTraining(@Valid @RequestBody FetchTrainerTrainingsRequestDTO request) {
-        return ResponseEntity.ok(trainingService.findTrainerTrainings(request));
+        FetchUserTrainingsPageDTO page = trainingService.findTrainerTrainings(request);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(TrainingController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTrainings());
     }
 }
@@ -1,7 +1,10 @@
 package com.epam.spring.controller;
 
 import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
+import com.epam.spring.service.impl.TrainingBatchProcessor;
 import com.epam.spring.service.impl.TrainingService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -12,12 +15,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(value = "/api/v1/trainings", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
 public class TrainingController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TrainingService trainingService;
+    private final TrainingBatchProcessor trainingBatchProcessor;
 
     @PostMapping
     public ResponseEntity<Void> create(@Valid @RequestBody CreateTrainingRequestDTO request) {
@@ -25,4 +33,13 @@ public class TrainingController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @PostMapping(value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        trainingBatchProcessor.process(request.getInputStream(), response.getOutputStream());
+    }
+
 }
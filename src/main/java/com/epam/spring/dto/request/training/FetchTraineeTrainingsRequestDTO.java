@@ -1,6 +1,7 @@
 package com.epam.spring.dto.request.training;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,6 +23,9 @@ public class FetchTraineeTrainingsRequestDTO {
     private LocalDate toDate;
     private String trainerUsername;
     private String trainingTypeName;
+    private String cursor;
+    @Positive(message = "Page size must be positive")
+    private Integer pageSize;
 
     public FetchTraineeTrainingsRequestDTO(String traineeUsername) {
         this.traineeUsername = traineeUsername;
@@ -1,6 +1,7 @@
 package com.epam.spring.dto.request.training;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,6 +22,9 @@ public class FetchTrainerTrainingsRequestDTO {
     private LocalDate fromDate;
     private LocalDate toDate;
     private String traineeUsername;
+    private String cursor;
+    @Positive(message = "Page size must be positive")
+    private Integer pageSize;
 
     public FetchTrainerTrainingsRequestDTO(String trainerUsername) {
         this.trainerUsername = trainerUsername;
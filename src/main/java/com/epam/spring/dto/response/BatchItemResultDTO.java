@@ -0,0 +1,33 @@
+package com.epam.spring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDTO {
+
+    private int index;
+    private Status status;
+    private Long id;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    public static BatchItemResultDTO created(int index, Long id) {
+        return new BatchItemResultDTO(index, Status.CREATED, id, null);
+    }
+
+    public static BatchItemResultDTO failed(int index, String message) {
+        return new BatchItemResultDTO(index, Status.FAILED, null, message);
+    }
+}
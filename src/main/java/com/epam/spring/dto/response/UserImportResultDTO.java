@@ -0,0 +1,29 @@
+package com.epam.spring.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString(exclude = "password")
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResultDTO {
+
+    private int index;
+    private BatchItemResultDTO.Status status;
+    private String username;
+    private String password;
+    private String message;
+
+    public static UserImportResultDTO created(int index, String username, String password) {
+        return new UserImportResultDTO(index, BatchItemResultDTO.Status.CREATED, username, password, null);
+    }
+
+    public static UserImportResultDTO failed(int index, String message) {
+        return new UserImportResultDTO(index, BatchItemResultDTO.Status.FAILED, null, null, message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.epam.spring.dto.response.trainer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerPageDTO {
+
+    private List<TrainerResponseDTO> trainers;
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.epam.spring.dto.response.training;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class FetchUserTrainingsPageDTO {
+
+    private List<FetchUserTrainingsResponseDTO> trainings;
+    private String nextCursor;
+}
@@ -0,0 +1,10 @@
+package com.epam.spring.error.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RateLimitExceededException extends RuntimeException {
+    private long retryAfterSeconds;
+}
@@ -0,0 +1,10 @@
+package com.epam.spring.error.exception;
+
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
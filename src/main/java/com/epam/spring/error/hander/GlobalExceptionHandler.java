@@ -2,12 +2,16 @@ package com.epam.spring.error.hander;
 
 import com.epam.spring.dto.response.ErrorResponseDTO;
 import com.epam.spring.error.exception.IncorrectCredentialsException;
+import com.epam.spring.error.exception.InvalidCursorException;
 import com.epam.spring.error.exception.LoginAttemptException;
+import com.epam.spring.error.exception.RateLimitExceededException;
 import com.epam.spring.error.exception.ResourceNotFoundException;
+import com.epam.spring.error.exception.ServiceOverloadedException;
 import com.epam.spring.error.exception.UniqueConstraintException;
 import com.epam.spring.util.TransactionContext;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import java.time.LocalDateTime;
@@ -33,6 +38,9 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     private final static String MESSAGE_INCORRECT_CREDENTIALS = "Incorrect credentials.";
     private final static String MESSAGE_UNIQUE_CONSTRAINT = "This resource already exists in database.";
     private final static String MESSAGE_TOO_MANY_UNSUCCESSFUL_ATTEMPTS = "User is blocked due to too many failed attempts. Try again later";
+    private final static String MESSAGE_TOO_MANY_REQUESTS = "Too many requests. Try again later.";
+    private final static String MESSAGE_INVALID_CURSOR = "Invalid pagination cursor.";
+    private final static String MESSAGE_SERVICE_OVERLOADED = "Service is temporarily overloaded, please try again later.";
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleUnknownExceptions() {
@@ -63,6 +71,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, status);
     }
 
+    @Override
+    public ResponseEntity<Object> handleHandlerMethodValidationException(HandlerMethodValidationException ex,
+                                                                         @NonNull HttpHeaders headers,
+                                                                         @NonNull HttpStatusCode status,
+                                                                         @NonNull WebRequest request) {
+        List<String> errors = ex.getAllErrors().stream()
+                .map(MessageSourceResolvable::getDefaultMessage)
+                .collect(Collectors.toList());
+
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                status.toString(),
+                errors
+        );
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponseDTO> handleResourceNotFound(ResourceNotFoundException ex) {
         log.info("Transaction ID: {}, User with username: {} not found",
@@ -104,4 +129,36 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.TOO_MANY_REQUESTS);
     }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponseDTO> handleInvalidCursor() {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.toString(),
+                List.of(MESSAGE_INVALID_CURSOR)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponseDTO> handleRateLimitExceeded(RateLimitExceededException ex) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.toString(),
+                List.of(MESSAGE_TOO_MANY_REQUESTS)
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceOverloaded() {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.toString(),
+                List.of(MESSAGE_SERVICE_OVERLOADED)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
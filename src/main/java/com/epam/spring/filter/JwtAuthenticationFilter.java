@@ -1,6 +1,7 @@
 package com.epam.spring.filter;
 
 import com.epam.spring.service.auth.JwtService;
+import com.epam.spring.service.auth.JwtTokenClaims;
 import com.epam.spring.service.auth.TokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -8,15 +9,20 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -28,6 +34,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String AUTH_HEADER_NAME = "Authorization";
 
+    @Value("${token.stateless.enabled:true}")
+    private boolean statelessEnabled;
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
@@ -40,11 +49,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
         String token = authHeader.substring(BEARER_PREFIX.length());
-        String username = jwtService.extractUsername(token);
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            boolean isTokenBlackListed = tokenService.isTokenBlackListed(token);
-            if (!isTokenBlackListed && jwtService.isTokenValid(token, userDetails)) {
+        Optional<JwtTokenClaims> claims = jwtService.validateToken(token);
+        if (claims.isPresent()
+                && SecurityContextHolder.getContext().getAuthentication() == null
+                && !tokenService.isTokenBlackListed(token)
+                && tokenService.isTokenVersionCurrent(claims.get())) {
+            UserDetails userDetails = resolveUserDetails(claims.get());
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -56,4 +67,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * The stateless principal carries only the verified subject; it is a plain {@link User} rather than a
+     * {@link com.epam.spring.service.auth.MyUserPrincipal}, so nothing can read an id or password it does not have.
+     */
+    private UserDetails resolveUserDetails(JwtTokenClaims claims) {
+        if (statelessEnabled && !tokenService.requiresUserLookup(claims)) {
+            return User.withUsername(claims.subject())
+                    .password("")
+                    .authorities(List.of())
+                    .build();
+        }
+        try {
+            return userDetailsService.loadUserByUsername(claims.subject());
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+    }
+}
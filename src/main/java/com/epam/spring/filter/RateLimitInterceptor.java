@@ -0,0 +1,32 @@
+package com.epam.spring.filter;
+
+import com.epam.spring.config.RateLimitProperties;
+import com.epam.spring.service.auth.RateLimiterService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitProperties properties;
+    private final RateLimiterService rateLimiterService;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        for (Map.Entry<String, RateLimitProperties.Route> route : properties.getRoutes().entrySet()) {
+            if (pathMatcher.match(route.getValue().getPath(), request.getRequestURI())) {
+                rateLimiterService.checkClientIp(route.getKey(), request.getRemoteAddr());
+            }
+        }
+        return true;
+    }
+}
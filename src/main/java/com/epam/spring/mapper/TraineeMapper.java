@@ -2,12 +2,14 @@ package com.epam.spring.mapper;
 
 import com.epam.spring.dto.request.trainee.CreateTraineeRequestDTO;
 import com.epam.spring.dto.request.trainee.UpdateTraineeRequestDTO;
-import com.epam.spring.dto.response.TrainingTypeDTO;
 import com.epam.spring.dto.response.trainee.FetchTraineeResponseDTO;
+import com.epam.spring.dto.response.trainee.TraineeResponseDTO;
 import com.epam.spring.dto.response.trainee.UpdateTraineeResponseDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.model.Trainee;
 import com.epam.spring.model.User;
+import com.epam.spring.repository.projection.TraineeProfileRow;
+import com.epam.spring.repository.projection.TraineeSummaryRow;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
@@ -45,23 +47,7 @@ public class TraineeMapper {
         }
     }
 
-    public UpdateTraineeResponseDTO fromTraineeToUpdateTraineeResponse(Trainee trainee) {
-        List<TrainerResponseDTO> trainers = null;
-        if (trainee.getTrainings() != null) {
-            trainers = trainee.getTrainings()
-                    .stream()
-                    .map(tgs -> new TrainerResponseDTO(
-                                    tgs.getTrainer().getUser().getUsername(),
-                                    tgs.getTrainer().getUser().getFirstName(),
-                                    tgs.getTrainer().getUser().getLastName(),
-                                    new TrainingTypeDTO(
-                                            tgs.getTrainingType().getId(),
-                                            tgs.getTrainingType().getTrainingTypeName()
-                                    )
-                            )
-
-                    ).toList();
-        }
+    public UpdateTraineeResponseDTO fromTraineeToUpdateTraineeResponse(Trainee trainee, List<TrainerResponseDTO> trainers) {
         UpdateTraineeResponseDTO response = UpdateTraineeResponseDTO.builder()
                 .username(trainee.getUser().getUsername())
                 .firstName(trainee.getUser().getFirstName())
@@ -76,29 +62,23 @@ public class TraineeMapper {
         return response;
     }
 
-    public FetchTraineeResponseDTO fromTraineeToFetchTraineeResponse(Trainee trainee) {
-        User user = trainee.getUser();
-        List<TrainerResponseDTO> trainers = null;
-
-        if (trainee.getTrainings() != null) {
-            trainers = trainee.getTrainings().stream().map(training -> new TrainerResponseDTO(
-                    training.getTrainer().getUser().getUsername(),
-                    training.getTrainer().getUser().getFirstName(),
-                    training.getTrainer().getUser().getLastName(),
-                    new TrainingTypeDTO(training.getTrainingType().getId(), training.getTrainingType().getTrainingTypeName())
-            )).toList();
-        }
-
+    public FetchTraineeResponseDTO fromProfileToFetchTraineeResponse(TraineeProfileRow profile, List<TrainerResponseDTO> trainers) {
         FetchTraineeResponseDTO response = FetchTraineeResponseDTO.builder()
-                .firstName(user.getFirstName())
-                .lastName(user.getLastName())
-                .address(trainee.getAddress())
-                .isActive(trainee.getUser().isActive())
+                .firstName(profile.firstName())
+                .lastName(profile.lastName())
+                .address(profile.address())
+                .isActive(profile.active())
                 .trainers(trainers)
                 .build();
-        if (trainee.getDataOfBirth() != null) {
-            response.setDateOfBirth(String.valueOf(trainee.getDataOfBirth()));
+        if (profile.dateOfBirth() != null) {
+            response.setDateOfBirth(String.valueOf(profile.dateOfBirth()));
         }
         return response;
     }
+
+    public List<TraineeResponseDTO> fromSummaryRowsToTraineeResponseDTOList(List<TraineeSummaryRow> rows) {
+        return rows.stream()
+                .map(row -> new TraineeResponseDTO(row.username(), row.firstName(), row.lastName()))
+                .toList();
+    }
 }
@@ -9,6 +9,8 @@ import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.dto.response.trainer.UpdateTrainerResponseDTO;
 import com.epam.spring.model.Trainer;
 import com.epam.spring.model.User;
+import com.epam.spring.repository.projection.TrainerProfileRow;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
@@ -37,28 +39,17 @@ public class TrainerMapper {
         user.setActive(updateRequest.getActive());
     }
 
-    public List<TrainerResponseDTO> fromTrainerListToTrainerResponseDTOList(List<Trainer> trainers) {
-        return trainers.stream()
-                .map(trainer -> new TrainerResponseDTO(
-                        trainer.getUser().getUsername(),
-                        trainer.getUser().getFirstName(),
-                        trainer.getUser().getLastName(),
-                        new TrainingTypeDTO(
-                                trainer.getSpecialization().getId(),
-                                trainer.getSpecialization().getTrainingTypeName()
-                        ))).toList();
+    public List<TrainerResponseDTO> fromSummaryRowsToTrainerResponseDTOList(List<TrainerSummaryRow> rows) {
+        return rows.stream()
+                .map(row -> new TrainerResponseDTO(
+                        row.username(),
+                        row.firstName(),
+                        row.lastName(),
+                        new TrainingTypeDTO(row.trainingTypeId(), row.trainingTypeName())
+                )).toList();
     }
 
-    public UpdateTrainerResponseDTO fromTrainerToUpdatedTrainerResponse(Trainer trainer) {
-        List<TraineeResponseDTO> trainees = null;
-        if (trainer.getTrainings() != null) {
-            trainees = trainer.getTrainings().stream()
-                    .map(training -> new TraineeResponseDTO(
-                            training.getTrainee().getUser().getUsername(),
-                            training.getTrainee().getUser().getFirstName(),
-                            training.getTrainee().getUser().getFirstName()
-                    )).toList();
-        }
+    public UpdateTrainerResponseDTO fromTrainerToUpdatedTrainerResponse(Trainer trainer, List<TraineeResponseDTO> trainees) {
         return UpdateTrainerResponseDTO.builder()
                 .firstName(trainer.getUser().getFirstName())
                 .lastName(trainer.getUser().getLastName())
@@ -69,21 +60,12 @@ public class TrainerMapper {
                 .build();
     }
 
-    public FetchTrainerResponseDTO fromTrainerToFetchTrainerResponse(Trainer trainer) {
-        List<TraineeResponseDTO> trainees = null;
-        if (trainer.getTrainings() != null) {
-            trainees = trainer.getTrainings().stream()
-                    .map(training -> new TraineeResponseDTO(
-                            training.getTrainee().getUser().getUsername(),
-                            training.getTrainee().getUser().getFirstName(),
-                            training.getTrainee().getUser().getLastName()
-                    )).toList();
-        }
+    public FetchTrainerResponseDTO fromProfileToFetchTrainerResponse(TrainerProfileRow profile, List<TraineeResponseDTO> trainees) {
         return FetchTrainerResponseDTO.builder()
-                .firstName(trainer.getUser().getFirstName())
-                .lastName(trainer.getUser().getLastName())
-                .active(trainer.getUser().isActive())
-                .specializationId(trainer.getSpecialization().getId())
+                .firstName(profile.firstName())
+                .lastName(profile.lastName())
+                .active(profile.active())
+                .specializationId(profile.specializationId())
                 .trainees(trainees)
                 .build();
     }
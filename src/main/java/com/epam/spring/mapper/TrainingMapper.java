@@ -6,6 +6,8 @@ import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
 import com.epam.spring.model.Trainee;
 import com.epam.spring.model.Trainer;
 import com.epam.spring.model.Training;
+import com.epam.spring.model.TrainingType;
+import com.epam.spring.repository.projection.TrainingHistoryRow;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
@@ -16,24 +18,27 @@ import java.util.List;
 @Scope("singleton")
 public class TrainingMapper {
 
-    public List<FetchUserTrainingsResponseDTO> fromUserListToFetchUserTrainingsResponseList(List<Training> trainings) {
-        return trainings.stream()
-                .map(training -> new FetchUserTrainingsResponseDTO(
-                        training.getName(),
-                        training.getDate().toString(),
-                        new TrainingTypeDTO(training.getTrainingType().getId(), training.getTrainingType().getTrainingTypeName()),
-                        training.getDuration(),
-                        training.getTrainee().getUser().getUsername()
+    public List<FetchUserTrainingsResponseDTO> fromHistoryRowsToFetchUserTrainingsResponseList(List<TrainingHistoryRow> rows) {
+        return rows.stream()
+                .map(row -> new FetchUserTrainingsResponseDTO(
+                        row.name(),
+                        row.date().toString(),
+                        new TrainingTypeDTO(row.trainingTypeId(), row.trainingTypeName()),
+                        row.duration(),
+                        row.traineeUsername()
                 ))
                 .toList();
     }
 
-    public Training fromCreateTrainingRequestToTraining(CreateTrainingRequestDTO createTrainingRequest, Trainee trainee, Trainer trainer) {
+    public Training fromCreateTrainingRequestToTraining(CreateTrainingRequestDTO createTrainingRequest,
+                                                        Trainee trainee,
+                                                        Trainer trainer,
+                                                        TrainingType trainingType) {
         return Training.builder()
                 .trainee(trainee)
                 .trainer(trainer)
                 .name(createTrainingRequest.getTrainingName())
-                .trainingType(trainer.getSpecialization())
+                .trainingType(trainingType)
                 .duration(Integer.valueOf(createTrainingRequest.getDuration()))
                 .date(LocalDate.parse(createTrainingRequest.getTrainingDate()))
                 .build();
@@ -35,6 +35,9 @@ public class User extends BaseEntity {
     @Column(name = "is_active", nullable = false)
     private boolean isActive;
 
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,16 +1,58 @@
 package com.epam.spring.repository;
 
 import com.epam.spring.model.Trainee;
+import com.epam.spring.repository.projection.TraineeProfileRow;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import com.epam.spring.repository.projection.UserIdRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TraineeRepository extends JpaRepository<Trainee, Long> {
 
-    @Query("SELECT t FROM Trainee t LEFT JOIN FETCH t.trainings WHERE t.user.username = :username")
-    Optional<Trainee> findByUsername(@Param("username") String username);
+    boolean existsByUserUsername(String username);
+
+    @Query("SELECT t.id FROM Trainee t WHERE t.user.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT new com.epam.spring.repository.projection.UserIdRow(u.username, t.id) FROM Trainee t JOIN t.user u WHERE u.username IN :usernames")
+    List<UserIdRow> findIdsByUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("SELECT t FROM Trainee t JOIN FETCH t.user u WHERE u.username = :username")
+    Optional<Trainee> findWithUserByUsername(@Param("username") String username);
+
+    @Query("""
+            SELECT new com.epam.spring.repository.projection.TraineeProfileRow(
+                t.id, u.username, u.firstName, u.lastName, u.isActive, t.dataOfBirth, t.address)
+            FROM Trainee t
+            JOIN t.user u
+            WHERE u.username = :username
+            """)
+    Optional<TraineeProfileRow> findProfileByUsername(@Param("username") String username);
+
+    /**
+     * One row per trainer the trainee has trained with; uk_trainings_trainee_trainer allows a single training per pair.
+     */
+    @Query("""
+            SELECT new com.epam.spring.repository.projection.TrainerSummaryRow(
+                u.username, u.firstName, u.lastName, type.id, type.trainingTypeName)
+            FROM Training trn
+            JOIN trn.trainer tr
+            JOIN tr.user u
+            JOIN trn.trainingType type
+            WHERE trn.trainee.id = :traineeId
+            ORDER BY u.username
+            """)
+    List<TrainerSummaryRow> findTrainersOfTrainee(@Param("traineeId") Long traineeId);
+
+    @Modifying
+    @Query("DELETE FROM Trainee t WHERE t.id = :traineeId")
+    int deleteTraineeById(@Param("traineeId") Long traineeId);
 }
@@ -1,30 +1,94 @@
 package com.epam.spring.repository;
 
 import com.epam.spring.model.Trainer;
+import com.epam.spring.repository.projection.TraineeSummaryRow;
+import com.epam.spring.repository.projection.TrainerProfileRow;
+import com.epam.spring.repository.projection.TrainerReferenceRow;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TrainerRepository extends JpaRepository<Trainer, Long> {
 
-    @Query("SELECT t FROM Trainer t LEFT JOIN FETCH t.trainings WHERE t.user.username = :username")
-    Optional<Trainer> findByUsername(@Param("username") String username);
+    boolean existsByUserUsername(String username);
 
+    @Query("SELECT t FROM Trainer t JOIN FETCH t.user u JOIN FETCH t.specialization WHERE u.username = :username")
+    Optional<Trainer> findWithUserByUsername(@Param("username") String username);
+
+    @Query("SELECT new com.epam.spring.repository.projection.TrainerReferenceRow(u.username, t.id, t.specialization.id) FROM Trainer t JOIN t.user u WHERE u.username = :username")
+    Optional<TrainerReferenceRow> findReferenceByUsername(@Param("username") String username);
+
+    @Query("SELECT new com.epam.spring.repository.projection.TrainerReferenceRow(u.username, t.id, t.specialization.id) FROM Trainer t JOIN t.user u WHERE u.username IN :usernames")
+    List<TrainerReferenceRow> findReferencesByUsernames(@Param("usernames") Collection<String> usernames);
+
+    @Query("""
+            SELECT new com.epam.spring.repository.projection.TrainerProfileRow(
+                t.id, u.username, u.firstName, u.lastName, u.isActive, t.specialization.id)
+            FROM Trainer t
+            JOIN t.user u
+            WHERE u.username = :username
+            """)
+    Optional<TrainerProfileRow> findProfileByUsername(@Param("username") String username);
+
+    /**
+     * One row per trainee the trainer has trained; uk_trainings_trainee_trainer allows a single training per pair.
+     */
+    @Query("""
+            SELECT new com.epam.spring.repository.projection.TraineeSummaryRow(
+                u.username, u.firstName, u.lastName)
+            FROM Training trn
+            JOIN trn.trainee tn
+            JOIN tn.user u
+            WHERE trn.trainer.id = :trainerId
+            ORDER BY u.username
+            """)
+    List<TraineeSummaryRow> findTraineesOfTrainer(@Param("trainerId") Long trainerId);
+
+    /**
+     * Pages, in username order, through trainers that have no training with the given trainee. The anti-join is
+     * answered by the unique (trainee_id, trainer_id) index; pass an empty cursor for the first page.
+     */
+    @Query("""
+            SELECT new com.epam.spring.repository.projection.TrainerSummaryRow(
+                u.username, u.firstName, u.lastName, type.id, type.trainingTypeName)
+            FROM Trainer t
+            JOIN t.user u
+            JOIN t.specialization type
+            WHERE NOT EXISTS (SELECT 1 FROM Training trn WHERE trn.trainer = t AND trn.trainee.id = :traineeId)
+              AND u.username > :cursor
+            ORDER BY u.username
+            """)
+    List<TrainerSummaryRow> findUnassignedTrainers(@Param("traineeId") Long traineeId,
+                                                   @Param("cursor") String cursor,
+                                                   Limit limit);
+
+    /**
+     * Ranks active trainers whose username matches {@code pattern}: an exact match first, then prefix matches,
+     * then any other match, shorter usernames ahead of longer ones.
+     */
     @Query("""
-            SELECT DISTINCT t
+            SELECT new com.epam.spring.repository.projection.TrainerSummaryRow(
+                u.username, u.firstName, u.lastName, type.id, type.trainingTypeName)
             FROM Trainer t
-                     JOIN User u ON t.user.id = u.id
-            WHERE t.id NOT IN (SELECT tr.id
-                               FROM Training trn
-                                        JOIN Trainer tr ON tr.id = trn.trainer.id
-                                        JOIN Trainee tn ON tn.id = trn.trainee.id
-                                        JOIN User tu ON tu.id = tn.user.id
-                               WHERE tu.username = :username)
+            JOIN t.user u
+            JOIN t.specialization type
+            WHERE u.isActive = true AND u.username LIKE :pattern ESCAPE '\\'
+            ORDER BY CASE WHEN u.username = :query THEN 0
+                          WHEN u.username LIKE :prefixPattern ESCAPE '\\' THEN 1
+                          ELSE 2 END,
+                     LENGTH(u.username),
+                     u.username
             """)
-    List<Trainer> findUnassignedTrainersByTraineeUsername(@Param("username") String username);
+    List<TrainerSummaryRow> searchByUsername(@Param("query") String query,
+                                            @Param("pattern") String pattern,
+                                            @Param("prefixPattern") String prefixPattern,
+                                            Limit limit);
 }
@@ -1,41 +1,45 @@
 package com.epam.spring.repository;
 
 import com.epam.spring.model.Training;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import com.epam.spring.repository.projection.TrainingPairRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface TrainingRepository extends JpaRepository<Training, Long> {
+public interface TrainingRepository extends JpaRepository<Training, Long>, TrainingSearchRepository {
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Training t WHERE t.trainee.id = :traineeId")
+    int deleteByTraineeId(@Param("traineeId") Long traineeId);
+
+    @Query("SELECT t.id FROM Training t WHERE t.trainee.id = :traineeId AND t.id IN :trainingIds")
+    List<Long> findIdsByTraineeIdAndIdIn(@Param("traineeId") Long traineeId,
+                                         @Param("trainingIds") Collection<Long> trainingIds);
 
     @Query("""
-                SELECT t FROM Training t
-                WHERE t.trainer.user.username = :trainerUsername
-                AND (:fromDate IS NULL OR t.date >= :fromDate)
-                AND (:toDate IS NULL OR t.date <= :toDate)
-                AND (:traineeUsername IS NULL OR t.trainee.user.username LIKE %:traineeUsername%)
+            SELECT new com.epam.spring.repository.projection.TrainerSummaryRow(
+                u.username, u.firstName, u.lastName, type.id, type.trainingTypeName)
+            FROM Training t
+            JOIN t.trainer trainer
+            JOIN trainer.user u
+            JOIN t.trainingType type
+            WHERE t.trainee.id = :traineeId
+            ORDER BY t.id
             """)
-    List<Training> findTrainerTrainings(@Param("trainerUsername") String trainerUsername,
-                                        @Param("fromDate") LocalDate fromDate,
-                                        @Param("toDate") LocalDate toDate,
-                                        @Param("traineeUsername") String traineeUsername);
+    List<TrainerSummaryRow> findTrainerSummariesByTraineeId(@Param("traineeId") Long traineeId);
 
     @Query("""
-                SELECT t FROM Training t
-                WHERE t.trainee.user.username = :traineeUsername
-                AND (:fromDate IS NULL OR t.date >= :fromDate)
-                AND (:toDate IS NULL OR t.date <= :toDate)
-                AND (:trainerUsername IS NULL OR t.trainer.user.username LIKE %:trainerUsername%)
-                AND (:trainingTypeName IS NULL OR t.trainingType.trainingTypeName LIKE %:trainingTypeName%)
+            SELECT new com.epam.spring.repository.projection.TrainingPairRow(t.trainee.id, t.trainer.id)
+            FROM Training t
+            WHERE t.trainee.id IN :traineeIds AND t.trainer.id IN :trainerIds
             """)
-    List<Training> findTraineeTrainings(@Param("traineeUsername") String traineeUsername,
-                                        @Param("fromDate") LocalDate fromDate,
-                                        @Param("toDate") LocalDate toDate,
-                                        @Param("trainerUsername") String trainerUsername,
-                                        @Param("trainingTypeName") String trainingTypeName);
-
+    List<TrainingPairRow> findExistingPairs(@Param("traineeIds") Collection<Long> traineeIds,
+                                            @Param("trainerIds") Collection<Long> trainerIds);
 }
@@ -0,0 +1,33 @@
+package com.epam.spring.repository;
+
+import com.epam.spring.repository.projection.TrainingExportRow;
+import com.epam.spring.repository.projection.TrainingHistoryRow;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TrainingSearchRepository {
+
+    List<TrainingHistoryRow> findTrainerTrainings(String trainerUsername,
+                                                  LocalDate fromDate,
+                                                  LocalDate toDate,
+                                                  String traineeUsername,
+                                                  LocalDate cursorDate,
+                                                  Long cursorId,
+                                                  Limit limit);
+
+    List<TrainingHistoryRow> findTraineeTrainings(String traineeUsername,
+                                                  LocalDate fromDate,
+                                                  LocalDate toDate,
+                                                  String trainerUsername,
+                                                  String trainingTypeName,
+                                                  LocalDate cursorDate,
+                                                  Long cursorId,
+                                                  Limit limit);
+
+    Stream<TrainingExportRow> streamTrainerTrainings(String trainerUsername, LocalDate fromDate, LocalDate toDate);
+
+    Stream<TrainingExportRow> streamTraineeTrainings(String traineeUsername, LocalDate fromDate, LocalDate toDate);
+}
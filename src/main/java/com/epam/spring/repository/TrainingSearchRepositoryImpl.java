@@ -0,0 +1,88 @@
+package com.epam.spring.repository;
+
+import com.epam.spring.repository.projection.TrainingExportRow;
+import com.epam.spring.repository.projection.TrainingHistoryRow;
+import com.epam.spring.util.QueryBuilder;
+import com.epam.spring.util.QueryBuilder.HistoryOwner;
+import com.epam.spring.util.SearchMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TrainingSearchRepositoryImpl implements TrainingSearchRepository {
+
+    private final QueryBuilder queryBuilder;
+    private final int exportFetchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TrainingSearchRepositoryImpl(@Value("${search.mode}") SearchMode searchMode,
+                                        @Value("${training.export.fetch-size}") int exportFetchSize) {
+        this.queryBuilder = new QueryBuilder(searchMode);
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    @Override
+    public List<TrainingHistoryRow> findTrainerTrainings(String trainerUsername,
+                                                         LocalDate fromDate,
+                                                         LocalDate toDate,
+                                                         String traineeUsername,
+                                                         LocalDate cursorDate,
+                                                         Long cursorId,
+                                                         Limit limit) {
+        TypedQuery<TrainingHistoryRow> query = queryBuilder.buildTrainingHistoryQuery(entityManager, HistoryOwner.TRAINER,
+                trainerUsername, fromDate, toDate, traineeUsername, null, cursorDate, cursorId);
+        return applyLimit(query, limit).getResultList();
+    }
+
+    @Override
+    public List<TrainingHistoryRow> findTraineeTrainings(String traineeUsername,
+                                                         LocalDate fromDate,
+                                                         LocalDate toDate,
+                                                         String trainerUsername,
+                                                         String trainingTypeName,
+                                                         LocalDate cursorDate,
+                                                         Long cursorId,
+                                                         Limit limit) {
+        TypedQuery<TrainingHistoryRow> query = queryBuilder.buildTrainingHistoryQuery(entityManager, HistoryOwner.TRAINEE,
+                traineeUsername, fromDate, toDate, trainerUsername, trainingTypeName, cursorDate, cursorId);
+        return applyLimit(query, limit).getResultList();
+    }
+
+    @Override
+    public Stream<TrainingExportRow> streamTrainerTrainings(String trainerUsername, LocalDate fromDate, LocalDate toDate) {
+        return stream(queryBuilder.buildTrainingExportQuery(entityManager, HistoryOwner.TRAINER,
+                trainerUsername, fromDate, toDate, null, null));
+    }
+
+    @Override
+    public Stream<TrainingExportRow> streamTraineeTrainings(String traineeUsername, LocalDate fromDate, LocalDate toDate) {
+        return stream(queryBuilder.buildTrainingExportQuery(entityManager, HistoryOwner.TRAINEE,
+                traineeUsername, fromDate, toDate, null, null));
+    }
+
+    /**
+     * Reads through a forward-only cursor in fetch-size batches; rows are projections, so nothing accumulates in
+     * the persistence context. PostgreSQL only honours the fetch size inside a transaction.
+     */
+    private <T> Stream<T> stream(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static <T> TypedQuery<T> applyLimit(TypedQuery<T> query, Limit limit) {
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query;
+    }
+}
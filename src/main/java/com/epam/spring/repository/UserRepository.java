@@ -2,15 +2,32 @@ package com.epam.spring.repository;
 
 import com.epam.spring.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
 
     @Query("SELECT u FROM User u WHERE u.username = :username")
     Optional<User> findByUsername(@Param("username") String username);
+
+    @Query("SELECT u.username FROM User u WHERE u.username = :baseUsername OR u.username LIKE :serialPattern ESCAPE '\\'")
+    List<String> findUsernamesByBase(@Param("baseUsername") String baseUsername,
+                                     @Param("serialPattern") String serialPattern);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.username = :username")
+    Optional<Integer> findTokenVersionByUsername(@Param("username") String username);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.username = :username")
+    int incrementTokenVersion(@Param("username") String username);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.username = :username")
+    int deleteByUsername(@Param("username") String username);
 }
@@ -0,0 +1,9 @@
+package com.epam.spring.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    List<String> findUsernamesByBases(Collection<String> baseUsernames);
+}
@@ -0,0 +1,52 @@
+package com.epam.spring.repository;
+
+import com.epam.spring.util.SearchMode;
+import com.epam.spring.util.UsernameGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final int BASES_PER_QUERY = 16;
+
+    private static final String USERNAMES_BY_BASES_QUERY = "SELECT u.username FROM User u WHERE u.username IN :bases"
+            + IntStream.range(0, BASES_PER_QUERY)
+            .mapToObj(i -> " OR u.username LIKE :serialPattern" + i + " ESCAPE '\\'")
+            .collect(Collectors.joining());
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Loads every username that is one of the given bases or a serial of one ({@code base.n}); each prefix branch
+     * can use the username index. Bases are queried in groups of {@link #BASES_PER_QUERY}, the last group padded by
+     * repeating its final base, so every call shares a single query plan whatever the input size.
+     */
+    @Override
+    public List<String> findUsernamesByBases(Collection<String> baseUsernames) {
+        List<String> bases = List.copyOf(baseUsernames);
+        Set<String> usernames = new LinkedHashSet<>();
+        for (int from = 0; from < bases.size(); from += BASES_PER_QUERY) {
+            List<String> group = new ArrayList<>(bases.subList(from, Math.min(from + BASES_PER_QUERY, bases.size())));
+            while (group.size() < BASES_PER_QUERY) {
+                group.add(group.get(group.size() - 1));
+            }
+            TypedQuery<String> query = entityManager.createQuery(USERNAMES_BY_BASES_QUERY, String.class)
+                    .setParameter("bases", group);
+            for (int i = 0; i < BASES_PER_QUERY; i++) {
+                query.setParameter("serialPattern" + i, SearchMode.PREFIX.toLikePattern(group.get(i) + UsernameGenerator.DOT_SIGN));
+            }
+            usernames.addAll(query.getResultList());
+        }
+        return List.copyOf(usernames);
+    }
+}
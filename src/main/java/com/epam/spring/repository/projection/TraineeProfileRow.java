@@ -0,0 +1,12 @@
+package com.epam.spring.repository.projection;
+
+import java.time.LocalDate;
+
+public record TraineeProfileRow(Long id,
+                                String username,
+                                String firstName,
+                                String lastName,
+                                boolean active,
+                                LocalDate dateOfBirth,
+                                String address) {
+}
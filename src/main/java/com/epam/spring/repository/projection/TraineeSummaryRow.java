@@ -0,0 +1,6 @@
+package com.epam.spring.repository.projection;
+
+public record TraineeSummaryRow(String username,
+                                String firstName,
+                                String lastName) {
+}
@@ -0,0 +1,9 @@
+package com.epam.spring.repository.projection;
+
+public record TrainerProfileRow(Long id,
+                                String username,
+                                String firstName,
+                                String lastName,
+                                boolean active,
+                                Long specializationId) {
+}
@@ -0,0 +1,6 @@
+package com.epam.spring.repository.projection;
+
+public record TrainerReferenceRow(String username,
+                                  Long trainerId,
+                                  Long specializationId) {
+}
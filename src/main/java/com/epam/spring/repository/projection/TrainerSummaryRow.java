@@ -0,0 +1,8 @@
+package com.epam.spring.repository.projection;
+
+public record TrainerSummaryRow(String username,
+                               String firstName,
+                               String lastName,
+                               Long trainingTypeId,
+                               String trainingTypeName) {
+}
@@ -0,0 +1,15 @@
+package com.epam.spring.repository.projection;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.time.LocalDate;
+
+@JsonPropertyOrder({"id", "trainingName", "trainingDate", "duration", "trainingTypeName", "traineeUsername", "trainerUsername"})
+public record TrainingExportRow(Long id,
+                                String trainingName,
+                                LocalDate trainingDate,
+                                Integer duration,
+                                String trainingTypeName,
+                                String traineeUsername,
+                                String trainerUsername) {
+}
@@ -0,0 +1,12 @@
+package com.epam.spring.repository.projection;
+
+import java.time.LocalDate;
+
+public record TrainingHistoryRow(Long id,
+                                 String name,
+                                 LocalDate date,
+                                 Integer duration,
+                                 Long trainingTypeId,
+                                 String trainingTypeName,
+                                 String traineeUsername) {
+}
@@ -0,0 +1,5 @@
+package com.epam.spring.repository.projection;
+
+public record UserIdRow(String username,
+                        Long id) {
+}
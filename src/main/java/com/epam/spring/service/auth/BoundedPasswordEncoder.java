@@ -0,0 +1,147 @@
+package com.epam.spring.service.auth;
+
+import com.epam.spring.error.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing and verification on a dedicated fixed-size pool with a bounded queue, so that a login or
+ * registration spike cannot occupy every request thread. Work that does not fit in the queue is rejected immediately.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate,
+                                  int poolSize,
+                                  int queueCapacity,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("password_encoder_queue_size", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("password_encoder_active_tasks", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks currently running")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password_hash_duration_seconds")
+                .description("Time taken to hash a password")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("password_verify_duration_seconds")
+                .description("Time taken to verify a password against its hash")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password_encoder_rejected_total")
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> hashTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> verifyTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes a batch of passwords in parallel. At most one task per worker is kept in flight so that bulk imports
+     * are throttled by the pool instead of filling the queue that interactive logins rely on; when the queue is full
+     * anyway the batch waits for its own oldest task rather than failing.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        int completed = 0;
+        for (CharSequence rawPassword : rawPasswords) {
+            if (futures.size() - completed >= executor.getMaximumPoolSize()) {
+                await(futures.get(completed++));
+            }
+            while (true) {
+                try {
+                    futures.add(executor.submit(() -> hashTimer.record(() -> delegate.encode(rawPassword))));
+                    break;
+                } catch (RejectedExecutionException ex) {
+                    rejectedCounter.increment();
+                    if (completed == futures.size()) {
+                        throw new ServiceOverloadedException();
+                    }
+                    await(futures.get(completed++));
+                }
+            }
+        }
+        List<String> encodedPasswords = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            encodedPasswords.add(await(future));
+        }
+        return encodedPasswords;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException();
+        }
+        return await(future);
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-encoder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -2,22 +2,61 @@ package com.epam.spring.service.auth;
 
 import com.epam.spring.model.User;
 import com.epam.spring.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final Cache<String, MyUserPrincipal> userPrincipalCache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${security.user-cache.maximum-size}") long maximumSize,
+                                    @Value("${security.user-cache.ttl}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.userPrincipalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userPrincipalCache, "user_principals");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException(username));
-        return new MyUserPrincipal(user);
+        return userPrincipalCache.get(username, key -> {
+            User user = userRepository.findByUsername(key)
+                    .orElseThrow(() -> new UsernameNotFoundException(key));
+            return new MyUserPrincipal(user);
+        });
+    }
+
+    /**
+     * Evicts now and again after commit. Best effort only: a lookup that read the row before the commit but caches it
+     * after the second eviction keeps the stale principal until {@code security.user-cache.ttl} expires.
+     */
+    public void evictUser(String username) {
+        userPrincipalCache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userPrincipalCache.invalidate(username);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,63 @@
+package com.epam.spring.service.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+@ConditionalOnProperty(name = "token.revocation.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final NavigableSet<RevokedToken> revokedByExpiry = new ConcurrentSkipListSet<>(
+            Comparator.comparing(RevokedToken::expiresAt).thenComparing(RevokedToken::tokenHash));
+
+    private final Timer sweepTimer;
+
+    public InMemoryTokenRevocationStore(MeterRegistry meterRegistry) {
+        Gauge.builder("token_blacklist_size", revokedTokens, Map::size)
+                .description("Number of revoked tokens that have not expired yet")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("token_blacklist_sweep_duration_seconds")
+                .description("Time taken to drop expired tokens from the blacklist")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(String tokenHash, Instant expiresAt) {
+        if (revokedTokens.putIfAbsent(tokenHash, expiresAt) == null) {
+            revokedByExpiry.add(new RevokedToken(tokenHash, expiresAt));
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash) {
+        return revokedTokens.containsKey(tokenHash);
+    }
+
+    @Scheduled(fixedDelayString = "${token.blacklist.sweep-interval}")
+    public void clearExpiredTokens() {
+        sweepTimer.record(() -> {
+            Instant now = Instant.now();
+            RevokedToken oldest = revokedByExpiry.isEmpty() ? null : revokedByExpiry.first();
+            while (oldest != null && oldest.expiresAt().isBefore(now)) {
+                if (revokedByExpiry.remove(oldest)) {
+                    revokedTokens.remove(oldest.tokenHash(), oldest.expiresAt());
+                }
+                oldest = revokedByExpiry.isEmpty() ? null : revokedByExpiry.first();
+            }
+        });
+    }
+
+    private record RevokedToken(String tokenHash, Instant expiresAt) {}
+}
@@ -0,0 +1,168 @@
+package com.epam.spring.service.auth;
+
+import com.epam.spring.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "token.revocation.store", havingValue = "jdbc")
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO revoked_tokens (token_hash, expires_at)
+            SELECT ?, ? WHERE NOT EXISTS (SELECT 1 FROM revoked_tokens WHERE token_hash = ?)""";
+    private static final String EXISTS_NOT_EXPIRED =
+            "SELECT COUNT(*) FROM revoked_tokens WHERE token_hash = ? AND expires_at >= ?";
+    private static final String SELECT_NOT_EXPIRED = "SELECT token_hash FROM revoked_tokens WHERE expires_at >= ?";
+    private static final String DELETE_EXPIRED = "DELETE FROM revoked_tokens WHERE expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int expectedTokens;
+    private final Map<String, Instant> pendingRevocations = new ConcurrentHashMap<>();
+    private final Object syncLock = new Object();
+    private volatile BloomFilter bloomFilter;
+
+    private final Counter bloomNegativeCounter;
+    private final Counter databaseLookupCounter;
+
+    public JdbcTokenRevocationStore(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${token.revocation.jdbc.batch-size}") int batchSize,
+                                    @Value("${token.revocation.jdbc.expected-tokens}") int expectedTokens) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.expectedTokens = expectedTokens;
+        this.bloomFilter = new BloomFilter(expectedTokens, BLOOM_FALSE_POSITIVE_RATE);
+
+        Gauge.builder("token_revocation_pending_writes", pendingRevocations, Map::size)
+                .description("Revoked tokens waiting to be written to the database")
+                .register(meterRegistry);
+        this.bloomNegativeCounter = Counter.builder("token_revocation_lookups_total")
+                .tag("source", "bloom_filter")
+                .description("Revocation checks answered by the local Bloom filter")
+                .register(meterRegistry);
+        this.databaseLookupCounter = Counter.builder("token_revocation_lookups_total")
+                .tag("source", "database")
+                .description("Revocation checks that required a database query")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        syncBloomFilter();
+    }
+
+    @Override
+    public void revoke(String tokenHash, Instant expiresAt) {
+        pendingRevocations.put(tokenHash, expiresAt);
+        bloomFilter.put(tokenHash);
+    }
+
+    @Override
+    public boolean isRevoked(String tokenHash) {
+        if (pendingRevocations.containsKey(tokenHash)) {
+            return true;
+        }
+        if (!bloomFilter.mightContain(tokenHash)) {
+            bloomNegativeCounter.increment();
+            return false;
+        }
+        databaseLookupCounter.increment();
+        Integer count = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                EXISTS_NOT_EXPIRED, Integer.class, tokenHash, Timestamp.from(Instant.now())));
+        return count != null && count > 0;
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.jdbc.flush-interval}")
+    public void flushPendingRevocations() {
+        synchronized (syncLock) {
+            List<Map.Entry<String, Instant>> batch = new ArrayList<>(Math.min(pendingRevocations.size(), batchSize));
+            for (Map.Entry<String, Instant> entry : pendingRevocations.entrySet()) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+                if (batch.size() == batchSize) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.jdbc.bloom-sync-interval}")
+    public void syncBloomFilter() {
+        synchronized (syncLock) {
+            flushPendingRevocations();
+            BloomFilter refreshed = new BloomFilter(expectedTokens, BLOOM_FALSE_POSITIVE_RATE);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(SELECT_NOT_EXPIRED,
+                    rs -> { refreshed.put(rs.getString(1)); },
+                    Timestamp.from(Instant.now())));
+            pendingRevocations.keySet().forEach(refreshed::put);
+            bloomFilter = refreshed;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.jdbc.purge-interval}")
+    public void purgeExpiredTokens() {
+        Integer purged = transactionTemplate.execute(status ->
+                jdbcTemplate.update(DELETE_EXPIRED, Timestamp.from(Instant.now())));
+        log.debug("Purged {} expired revoked tokens", purged);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushPendingRevocations();
+    }
+
+    private void writeBatch(List<Map.Entry<String, Instant>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, batch,
+                    batch.size(), (ps, entry) -> {
+                        ps.setString(1, entry.getKey());
+                        ps.setTimestamp(2, Timestamp.from(entry.getValue()));
+                        ps.setString(3, entry.getKey());
+                    }));
+        } catch (DuplicateKeyException ex) {
+            // Another node revoked one of these tokens concurrently; fall back to per-row writes.
+            batch.forEach(entry -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_IF_ABSENT,
+                            entry.getKey(), Timestamp.from(entry.getValue()), entry.getKey()));
+                } catch (DuplicateKeyException ignored) {
+                    // already stored
+                }
+            });
+        }
+        BloomFilter current = bloomFilter;
+        batch.forEach(entry -> {
+            current.put(entry.getKey());
+            pendingRevocations.remove(entry.getKey(), entry.getValue());
+        });
+    }
+}
@@ -1,9 +1,14 @@
 package com.epam.spring.service.auth;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -13,25 +18,41 @@ import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
 
 @Component
 public class JwtService {
 
+    public static final String USERNAME_CLAIM = "username";
+    public static final String VERSION_CLAIM = "ver";
+
     @Value("${token.signing.key}")
     private String jwtSigningKey;
 
     @Value("${token.expiration.time}")
     private long expirationTime;
 
+    private final Timer tokenVerificationTimer;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.tokenVerificationTimer = Timer.builder("jwt_verification_duration_seconds")
+                .description("Time taken to verify token signature and parse claims")
+                .register(meterRegistry);
+    }
+
     /**
-     * Извлечение имени пользователя из токена
-     *
-     * @param token токен
-     * @return имя пользователя
+     * Однократная подготовка ключа подписи и парсера токенов
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Base64.getDecoder().decode(jwtSigningKey);
+        signingKey = Keys.hmacShaKeyFor(keyBytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -43,34 +64,34 @@ public class JwtService {
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         if (userDetails instanceof MyUserPrincipal customUserDetails) {
-            claims.put("username", customUserDetails.getUsername());
+            claims.put(USERNAME_CLAIM, customUserDetails.getUsername());
+            claims.put(VERSION_CLAIM, customUserDetails.getUser().getTokenVersion());
         }
         return generateToken(claims, userDetails);
     }
 
     /**
-     * Проверка токена на валидность
-     *
-     * @param token       токен
-     * @param userDetails данные пользователя
-     * @return true, если токен валиден
-     */
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userName = extractUsername(token);
-        return (userName.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    /**
-     * Извлечение данных из токена
+     * Однократная проверка подписи и срока действия токена
      *
-     * @param token           токен
-     * @param claimsResolvers функция извлечения данных
-     * @param <T>             тип данных
-     * @return данные
+     * @param token токен
+     * @return данные токена, если подпись верна и токен не просрочен
      */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
+    public Optional<JwtTokenClaims> validateToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            Map<String, Object> customClaims = new HashMap<>(claims);
+            customClaims.remove(Claims.SUBJECT);
+            customClaims.remove(Claims.EXPIRATION);
+            customClaims.remove(Claims.ISSUED_AT);
+            return Optional.of(new JwtTokenClaims(
+                    claims.getSubject(),
+                    claims.getExpiration(),
+                    claims.getIssuedAt(),
+                    Map.copyOf(customClaims)
+            ));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -86,27 +107,7 @@ public class JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expirationTime))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256).compact();
-    }
-
-    /**
-     * Проверка токена на просроченность
-     *
-     * @param token токен
-     * @return true, если токен просрочен
-     */
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Извлечение даты истечения токена
-     *
-     * @param token токен
-     * @return дата истечения
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+                .signWith(signingKey, SignatureAlgorithm.HS256).compact();
     }
 
     /**
@@ -116,20 +117,6 @@ public class JwtService {
      * @return данные
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Получение ключа для подписи токена
-     *
-     * @return ключ
-     */
-    private Key getSigningKey() {
-        byte[] keyBytes = Base64.getDecoder().decode(jwtSigningKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return tokenVerificationTimer.record(() -> jwtParser.parseClaimsJws(token).getBody());
     }
 }
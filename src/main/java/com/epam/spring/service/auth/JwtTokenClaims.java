@@ -0,0 +1,7 @@
+package com.epam.spring.service.auth;
+
+import java.util.Date;
+import java.util.Map;
+
+public record JwtTokenClaims(String subject, Date expiration, Date issuedAt, Map<String, Object> customClaims) {
+}
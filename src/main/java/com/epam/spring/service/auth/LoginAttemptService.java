@@ -1,44 +1,138 @@
 package com.epam.spring.service.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class LoginAttemptService {
 
-    private static final int INCREMENTOR = 1;
-    private static final int MAX_ATTEMPTS = 3;
-    private static final long LOCK_TIME_MILLIS = 5 * 60 * 1000;
+    private static final String OUTCOME_TAG = "outcome";
 
-    private final Map<String, FailedLoginAttempt> attemptsCache = new ConcurrentHashMap<>();
+    private final int maxAttempts;
+    private final long windowMillis;
+    private final long lockTimeMillis;
+    private final Cache<String, FailedLoginAttempts> attemptsCache;
+    private final Map<String, FailedLoginAttempts> attempts;
 
-    public void loginFailed(String username) {
-        FailedLoginAttempt attempt = attemptsCache.getOrDefault(username, new FailedLoginAttempt(0, null));
+    private final Counter failedCounter;
+    private final Counter lockedCounter;
+    private final Counter blockedCounter;
+    private final Counter succeededCounter;
 
-        int newAttemptCount = attempt.attemptCount() + INCREMENTOR;
-        Instant lockTime = newAttemptCount >= MAX_ATTEMPTS ? Instant.now().plusMillis(LOCK_TIME_MILLIS) : attempt.lockTime();
+    public LoginAttemptService(MeterRegistry meterRegistry,
+                               @Value("${security.login-attempts.max-attempts}") int maxAttempts,
+                               @Value("${security.login-attempts.window}") long windowMillis,
+                               @Value("${security.login-attempts.lock-time}") long lockTimeMillis,
+                               @Value("${security.login-attempts.max-tracked}") long maxTracked) {
+        this.maxAttempts = maxAttempts;
+        this.windowMillis = windowMillis;
+        this.lockTimeMillis = lockTimeMillis;
+        this.attemptsCache = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                .expireAfter(new AttemptsExpiry())
+                .build();
+        this.attempts = attemptsCache.asMap();
 
-        attemptsCache.put(username, new FailedLoginAttempt(newAttemptCount, lockTime));
+        Gauge.builder("login_attempts_tracked_users", attemptsCache, Cache::estimatedSize)
+                .description("Number of usernames with recent failed logins or an active lock")
+                .register(meterRegistry);
+        this.failedCounter = loginAttemptCounter(meterRegistry, "failed");
+        this.lockedCounter = loginAttemptCounter(meterRegistry, "locked");
+        this.blockedCounter = loginAttemptCounter(meterRegistry, "blocked");
+        this.succeededCounter = loginAttemptCounter(meterRegistry, "succeeded");
     }
 
-    public boolean isBlocked(String username) {
-        FailedLoginAttempt attempt = attemptsCache.get(username);
-        if (attempt == null || attempt.lockTime() == null) {
-            return false;
+    public void loginFailed(String username) {
+        long now = System.currentTimeMillis();
+        FailedLoginAttempts updated = attempts.compute(username, (key, previous) -> {
+            if (previous != null && previous.isLocked(now)) {
+                return previous;
+            }
+            long[] recentFailures = previous == null
+                    ? new long[0]
+                    : Arrays.stream(previous.failureTimes()).filter(time -> time > now - windowMillis).toArray();
+            long[] failureTimes = Arrays.copyOf(recentFailures, recentFailures.length + 1);
+            failureTimes[recentFailures.length] = now;
+            if (failureTimes.length >= maxAttempts) {
+                return new FailedLoginAttempts(new long[0], now + lockTimeMillis);
+            }
+            return new FailedLoginAttempts(failureTimes, 0);
+        });
+        failedCounter.increment();
+        if (updated.lockedUntil() == now + lockTimeMillis) {
+            lockedCounter.increment();
         }
-        if (Instant.now().isAfter(attempt.lockTime())) {
-            attemptsCache.remove(username);
+    }
+
+    public boolean isBlocked(String username) {
+        FailedLoginAttempts attempt = attempts.get(username);
+        if (attempt == null || !attempt.isLocked(System.currentTimeMillis())) {
             return false;
         }
+        blockedCounter.increment();
         return true;
     }
 
     public void resetAttempts(String username) {
-        attemptsCache.remove(username);
+        attempts.remove(username);
+        succeededCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-attempts.purge-interval}")
+    public void purgeExpiredAttempts() {
+        attemptsCache.cleanUp();
+    }
+
+    private static Counter loginAttemptCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("login_attempts_total")
+                .tag(OUTCOME_TAG, outcome)
+                .description("Login attempts by outcome")
+                .register(meterRegistry);
+    }
+
+    private record FailedLoginAttempts(long[] failureTimes, long lockedUntil) {
+
+        boolean isLocked(long now) {
+            return lockedUntil > now;
+        }
+
+        long expiresAt(long windowMillis) {
+            long lastFailure = failureTimes.length == 0 ? 0 : failureTimes[failureTimes.length - 1];
+            return Math.max(lockedUntil, lastFailure + windowMillis);
+        }
     }
 
-    private record FailedLoginAttempt(int attemptCount, Instant lockTime) {}
+    private class AttemptsExpiry implements Expiry<String, FailedLoginAttempts> {
+
+        @Override
+        public long expireAfterCreate(String username, FailedLoginAttempts attempts, long currentTime) {
+            return remainingNanos(attempts);
+        }
+
+        @Override
+        public long expireAfterUpdate(String username, FailedLoginAttempts attempts, long currentTime, long currentDuration) {
+            return remainingNanos(attempts);
+        }
+
+        @Override
+        public long expireAfterRead(String username, FailedLoginAttempts attempts, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(FailedLoginAttempts attempts) {
+            long remainingMillis = attempts.expiresAt(windowMillis) - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+    }
 }
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 public class LogoutService implements LogoutHandler {
 
     private final TokenService tokenService;
+    private final JwtService jwtService;
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String AUTH_HEADER_NAME = "Authorization";
 
@@ -24,7 +25,8 @@ public class LogoutService implements LogoutHandler {
             return;
         }
         jwt = authHeader.substring(BEARER_PREFIX.length());
-        tokenService.addTokenToBlackList(jwt);
+        jwtService.validateToken(jwt)
+                .ifPresent(claims -> tokenService.addTokenToBlackList(jwt, claims));
         SecurityContextHolder.clearContext();
     }
 }
@@ -0,0 +1,105 @@
+package com.epam.spring.service.auth;
+
+import com.epam.spring.config.RateLimitProperties;
+import com.epam.spring.error.exception.RateLimitExceededException;
+import com.epam.spring.util.TokenBucket;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Slf4j
+@Service
+public class RateLimiterService {
+
+    public static final String KEY_TYPE_IP = "ip";
+    public static final String KEY_TYPE_USERNAME = "username";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    @Getter
+    private final Duration bucketIdleExpiry;
+
+    public RateLimiterService(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.bucketIdleExpiry = longestRefillPeriod(properties);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedKeys());
+        if (bucketIdleExpiry != null) {
+            builder.expireAfterAccess(bucketIdleExpiry);
+        }
+        this.buckets = builder.build();
+        Gauge.builder("rate_limit_tracked_keys", buckets, Cache::estimatedSize)
+                .description("Number of clients and usernames with an active rate-limit bucket")
+                .register(meterRegistry);
+    }
+
+    public void checkClientIp(String route, String clientIp) {
+        RateLimitProperties.Route config = properties.getRoutes().get(route);
+        if (config != null) {
+            check(route, KEY_TYPE_IP, clientIp, config.getIp());
+        }
+    }
+
+    public void checkUsername(String route, String username) {
+        RateLimitProperties.Route config = properties.getRoutes().get(route);
+        if (config != null) {
+            check(route, KEY_TYPE_USERNAME, username, config.getUsername());
+        }
+    }
+
+    private void check(String route, String keyType, String key, RateLimitProperties.Limit limit) {
+        if (!properties.isEnabled() || limit == null || key == null) {
+            return;
+        }
+        TokenBucket bucket = buckets.get(route + ':' + keyType + ':' + key,
+                k -> new TokenBucket(limit.getCapacity(), limit.getRefillPerMinute() / 60));
+        if (bucket.tryConsume()) {
+            decisionCounter(route, keyType, "allowed").increment();
+            return;
+        }
+        decisionCounter(route, keyType, "rejected").increment();
+        log.warn("Rate limit exceeded on route: {} for {}: {}", route, keyType, key);
+        throw new RateLimitExceededException(bucket.secondsUntilRefill());
+    }
+
+    /**
+     * A bucket left idle for its full refill period is back at capacity, so evicting it after that
+     * is indistinguishable from keeping it. Returns null when a limit never refills.
+     */
+    private static Duration longestRefillPeriod(RateLimitProperties properties) {
+        Duration longest = Duration.ofMinutes(1);
+        for (RateLimitProperties.Route route : properties.getRoutes().values()) {
+            for (RateLimitProperties.Limit limit : new RateLimitProperties.Limit[]{route.getIp(), route.getUsername()}) {
+                if (limit == null) {
+                    continue;
+                }
+                if (limit.getRefillPerMinute() <= 0) {
+                    return null;
+                }
+                Duration refill = Duration.ofSeconds((long) Math.ceil(limit.getCapacity() * 60 / limit.getRefillPerMinute()));
+                if (refill.compareTo(longest) > 0) {
+                    longest = refill;
+                }
+            }
+        }
+        return longest;
+    }
+
+    private Counter decisionCounter(String route, String keyType, String outcome) {
+        return Counter.builder("rate_limit_decisions_total")
+                .description("Rate limiter decisions by route, key type and outcome")
+                .tag("route", route)
+                .tag("key_type", keyType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
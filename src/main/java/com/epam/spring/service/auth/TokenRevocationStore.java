@@ -0,0 +1,10 @@
+package com.epam.spring.service.auth;
+
+import java.time.Instant;
+
+public interface TokenRevocationStore {
+
+    void revoke(String tokenHash, Instant expiresAt);
+
+    boolean isRevoked(String tokenHash);
+}
@@ -1,41 +1,108 @@
 package com.epam.spring.service.auth;
 
-import lombok.RequiredArgsConstructor;
+import com.epam.spring.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenService {
 
-    private final JwtService jwtService;
-    private final Set<String> blackListTokens = new HashSet<>();
-    private final Map<String, String> userTokens = new HashMap<>();
+    private final TokenRevocationStore revocationStore;
+    private final UserRepository userRepository;
+    private final long expirationTime;
+    private final Cache<String, Integer> tokenVersions;
+    private final Map<String, Instant> userStateChanges = new ConcurrentHashMap<>();
 
-    public void addTokenToBlackList(String token) {
-        if (blackListTokens.size() >= 50) {
-            clearExpiredTokensFromBlackList();
-        }
-        blackListTokens.add(token);
+    public TokenService(TokenRevocationStore revocationStore,
+                        UserRepository userRepository,
+                        MeterRegistry meterRegistry,
+                        @Value("${token.expiration.time}") long expirationTime,
+                        @Value("${token.version-cache.maximum-size}") long maximumSize,
+                        @Value("${token.version-cache.ttl}") long ttlMillis) {
+        this.revocationStore = revocationStore;
+        this.userRepository = userRepository;
+        this.expirationTime = expirationTime;
+        this.tokenVersions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokenVersions, "token_versions");
     }
 
-    private void clearExpiredTokensFromBlackList() {
-        blackListTokens.removeIf(jwtService::isTokenExpired);
+    public void addTokenToBlackList(String token, JwtTokenClaims claims) {
+        revocationStore.revoke(hash(token), claims.expiration().toInstant());
     }
 
     public boolean isTokenBlackListed(String token) {
-        return blackListTokens.contains(token);
+        return revocationStore.isRevoked(hash(token));
+    }
+
+    public boolean isTokenVersionCurrent(JwtTokenClaims claims) {
+        if (!(claims.customClaims().get(JwtService.VERSION_CLAIM) instanceof Number tokenVersion)) {
+            return false;
+        }
+        Integer currentVersion = tokenVersions.get(claims.subject(),
+                username -> userRepository.findTokenVersionByUsername(username).orElse(null));
+        return currentVersion != null && currentVersion == tokenVersion.intValue();
+    }
+
+    public void revokeAllTokens(String username) {
+        userRepository.incrementTokenVersion(username);
+        evictTokenVersion(username);
+    }
+
+    public void evictTokenVersion(String username) {
+        tokenVersions.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tokenVersions.invalidate(username);
+                }
+            });
+        }
+    }
+
+    public void markUserStateChanged(String username) {
+        userStateChanges.put(username, Instant.now());
+    }
+
+    public boolean requiresUserLookup(JwtTokenClaims claims) {
+        Instant changedAt = userStateChanges.get(claims.subject());
+        return changedAt != null && claims.issuedAt().getTime() <= changedAt.toEpochMilli();
+    }
+
+    @Scheduled(fixedDelayString = "${token.blacklist.sweep-interval}")
+    public void clearExpiredStateChanges() {
+        Instant stateChangeHorizon = Instant.now().minusMillis(expirationTime);
+        userStateChanges.values().removeIf(changedAt -> changedAt.isBefore(stateChangeHorizon));
     }
 
-    public void updateUserToken(String username, String newToken) {
-        String oldToken = userTokens.get(username);
-        if (oldToken != null) {
-            addTokenToBlackList(oldToken);
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
         }
-        userTokens.put(username, newToken);
     }
 }
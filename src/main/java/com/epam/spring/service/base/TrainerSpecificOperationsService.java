@@ -4,6 +4,7 @@ import com.epam.spring.dto.request.trainer.CreateTrainerRequestDTO;
 import com.epam.spring.dto.request.trainer.UpdateTrainerRequestDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainer.FetchTrainerResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerPageDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.dto.response.trainer.UpdateTrainerResponseDTO;
 
@@ -11,5 +12,7 @@ import java.util.List;
 
 public interface TrainerSpecificOperationsService extends BaseUserOperationsService<CreateTrainerRequestDTO, UserCredentialsResponseDTO, FetchTrainerResponseDTO, UpdateTrainerRequestDTO, UpdateTrainerResponseDTO> {
 
-    List<TrainerResponseDTO> findUnassignedTrainersByTraineeUsername(String username);
+    TrainerPageDTO findUnassignedTrainersByTraineeUsername(String username, String cursor, Integer pageSize);
+
+    List<TrainerResponseDTO> searchTrainers(String query, Integer limit);
 }
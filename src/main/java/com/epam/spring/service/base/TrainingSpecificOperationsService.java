@@ -3,13 +3,11 @@ package com.epam.spring.service.base;
 import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
 import com.epam.spring.dto.request.training.FetchTraineeTrainingsRequestDTO;
 import com.epam.spring.dto.request.training.FetchTrainerTrainingsRequestDTO;
-import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
-
-import java.util.List;
+import com.epam.spring.dto.response.training.FetchUserTrainingsPageDTO;
 
 public interface TrainingSpecificOperationsService {
 
-    List<FetchUserTrainingsResponseDTO> findTraineeTrainings(FetchTraineeTrainingsRequestDTO fetchTraineeTrainingsRequest);
-    List<FetchUserTrainingsResponseDTO> findTrainerTrainings(FetchTrainerTrainingsRequestDTO fetchTrainerTrainingsRequest);
+    FetchUserTrainingsPageDTO findTraineeTrainings(FetchTraineeTrainingsRequestDTO fetchTraineeTrainingsRequest);
+    FetchUserTrainingsPageDTO findTrainerTrainings(FetchTrainerTrainingsRequestDTO fetchTrainerTrainingsRequest);
     void create(CreateTrainingRequestDTO createTrainingRequest);
 }
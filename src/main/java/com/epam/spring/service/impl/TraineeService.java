@@ -4,35 +4,45 @@ import com.epam.spring.dto.request.trainee.CreateTraineeRequestDTO;
 import com.epam.spring.dto.request.trainee.TrainingIdTrainerUsernamePair;
 import com.epam.spring.dto.request.trainee.UpdateTraineeRequestDTO;
 import com.epam.spring.dto.request.trainee.UpdateTraineeTrainerRequestDTO;
-import com.epam.spring.dto.response.TrainingTypeDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainee.FetchTraineeResponseDTO;
 import com.epam.spring.dto.response.trainee.UpdateTraineeResponseDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.error.exception.ResourceNotFoundException;
 import com.epam.spring.mapper.TraineeMapper;
+import com.epam.spring.mapper.TrainerMapper;
 import com.epam.spring.model.Trainee;
-import com.epam.spring.model.Trainer;
-import com.epam.spring.model.Training;
-import com.epam.spring.model.User;
 import com.epam.spring.repository.TraineeRepository;
 import com.epam.spring.repository.TrainerRepository;
+import com.epam.spring.repository.TrainingRepository;
 import com.epam.spring.repository.UserRepository;
-import com.epam.spring.service.auth.JwtService;
-import com.epam.spring.service.auth.MyUserPrincipal;
+import com.epam.spring.repository.projection.TraineeProfileRow;
+import com.epam.spring.repository.projection.TrainerReferenceRow;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import com.epam.spring.service.auth.CustomUserDetailsService;
 import com.epam.spring.service.auth.TokenService;
 import com.epam.spring.service.base.TraineeSpecificOperationsService;
 import com.epam.spring.util.PasswordGenerator;
 import com.epam.spring.util.TransactionContext;
-import com.epam.spring.util.UsernameGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -40,51 +50,97 @@ import java.util.NoSuchElementException;
 @RequiredArgsConstructor
 public class TraineeService implements TraineeSpecificOperationsService {
 
-    private final UsernameGenerator usernameGenerator;
+    private static final String REASSIGN_TRAINER =
+            "UPDATE trainings SET trainer_id = ?, training_type_id = ? WHERE id = ? AND trainee_id = ?";
+
+    private final UsernameReservationService usernameReservationService;
     private final TraineeRepository traineeRepository;
     private final PasswordGenerator passwordGenerator;
     private final TrainerRepository trainerRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
     private final TraineeMapper traineeMapper;
-    private final JwtService jwtService;
+    private final TrainerMapper trainerMapper;
+    private final TrainingRepository trainingRepository;
     private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final UnassignedTrainersCache unassignedTrainersCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserCredentialsResponseDTO create(CreateTraineeRequestDTO createRequest) {
         String transactionId = TransactionContext.getTransactionId();
         log.info("Transaction ID: {}, Starting trainee creation for firstName: {}, lastName: {}",
                 transactionId, createRequest.getFirstName(), createRequest.getLastName());
 
-        String uniqueUsername = usernameGenerator.generateUniqueUsername(createRequest.getFirstName(), createRequest.getLastName());
         String password = passwordGenerator.generatePassword();
-
-        log.info("Transaction ID: {}, Generated username: {}", transactionId, uniqueUsername);
-        Trainee trainee = traineeMapper.fromCreateTraineeRequestToTrainee(createRequest, uniqueUsername, passwordEncoder.encode(password));
-
-        Trainee trainer = traineeRepository.save(trainee);
-        User user = trainer.getUser();
-        String generatedToken = jwtService.generateToken(new MyUserPrincipal(user));
-        tokenService.updateUserToken(user.getUsername(), generatedToken);
+        String encodedPassword = passwordEncoder.encode(password);
+        String uniqueUsername = usernameReservationService.reserveAndInsert(createRequest.getFirstName(), createRequest.getLastName(),
+                username -> {
+                    log.info("Transaction ID: {}, Generated username: {}", transactionId, username);
+                    traineeRepository.saveAndFlush(traineeMapper.fromCreateTraineeRequestToTrainee(createRequest, username, encodedPassword));
+                    userDetailsService.evictUser(username);
+                    unassignedTrainersCache.evictTrainee(username);
+                    return username;
+                });
         log.info("Transaction ID: {}, Successfully saved trainee with username: {}", transactionId, uniqueUsername);
 
         return new UserCredentialsResponseDTO(uniqueUsername, password);
     }
 
+    /**
+     * Persists one chunk of a bulk import and returns the generated usernames in request order. Requests are
+     * validated and passwords hashed by the caller, so no BCrypt work runs while this transaction holds a connection.
+     */
+    public List<String> createAll(List<CreateTraineeRequestDTO> createRequests, List<String> encodedPasswords) {
+        String transactionId = TransactionContext.getTransactionId();
+        log.info("Transaction ID: {}, Starting bulk creation of {} trainees", transactionId, createRequests.size());
+
+        List<String> usernames = usernameReservationService.reserveAll(createRequests,
+                CreateTraineeRequestDTO::getFirstName, CreateTraineeRequestDTO::getLastName);
+        List<Trainee> trainees = new ArrayList<>(createRequests.size());
+        for (int i = 0; i < createRequests.size(); i++) {
+            trainees.add(traineeMapper.fromCreateTraineeRequestToTrainee(createRequests.get(i), usernames.get(i), encodedPasswords.get(i)));
+        }
+
+        try {
+            traineeRepository.saveAll(trainees);
+            traineeRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Transaction ID: {}, A username in the bulk chunk was taken concurrently", transactionId);
+            createRequests.forEach(request -> usernameReservationService.invalidate(request.getFirstName(), request.getLastName()));
+            throw ex;
+        }
+        usernames.forEach(username -> {
+            userDetailsService.evictUser(username);
+            unassignedTrainersCache.evictTrainee(username);
+        });
+        log.info("Transaction ID: {}, Successfully saved {} trainees", transactionId, usernames.size());
+        return usernames;
+    }
+
     @Override
     public UpdateTraineeResponseDTO updateProfile(UpdateTraineeRequestDTO updateRequest) {
         String transactionId = TransactionContext.getTransactionId();
         String username = updateRequest.getUsername();
         log.info("Transaction ID: {}, Starting trainee update for username: {}", transactionId, username);
 
-        Trainee trainee = traineeRepository.findByUsername(username)
+        Trainee trainee = traineeRepository.findWithUserByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(username));
         traineeMapper.fromUpdateTraineeRequestToTrainee(trainee, updateRequest);
 
         Trainee updatedTrainee = traineeRepository.save(trainee);
+        userDetailsService.evictUser(username);
+        tokenService.markUserStateChanged(username);
+        List<TrainerSummaryRow> trainers = traineeRepository.findTrainersOfTrainee(updatedTrainee.getId());
         log.info("Transaction ID: {}, Successfully updated trainee with username: {}", transactionId, username);
 
-        return traineeMapper.fromTraineeToUpdateTraineeResponse(updatedTrainee);
+        return traineeMapper.fromTraineeToUpdateTraineeResponse(updatedTrainee,
+                trainerMapper.fromSummaryRowsToTrainerResponseDTOList(trainers));
     }
 
     @Override
@@ -93,21 +149,27 @@ public class TraineeService implements TraineeSpecificOperationsService {
         String transactionId = TransactionContext.getTransactionId();
         log.info("Transaction ID: {}, Fetching trainee with username: {}", transactionId, username);
 
-        Trainee trainee = traineeRepository.findByUsername(username)
+        TraineeProfileRow profile = traineeRepository.findProfileByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(username));
+        List<TrainerSummaryRow> trainers = traineeRepository.findTrainersOfTrainee(profile.id());
         log.info("Transaction ID: {}, Successfully fetched trainee with username: {}", transactionId, username);
 
-        return traineeMapper.fromTraineeToFetchTraineeResponse(trainee);
+        return traineeMapper.fromProfileToFetchTraineeResponse(profile,
+                trainerMapper.fromSummaryRowsToTrainerResponseDTOList(trainers));
     }
 
     @Override
     public void deleteByUsername(String username) {
         log.info("Transaction ID: {}, Deleting trainee with username: {}",
                 TransactionContext.getTransactionId(), username);
-        Trainee trainee = traineeRepository.findByUsername(username)
+        Long traineeId = traineeRepository.findIdByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(username));
-        userRepository.delete(trainee.getUser());
-        traineeRepository.delete(trainee);
+        trainingRepository.deleteByTraineeId(traineeId);
+        traineeRepository.deleteTraineeById(traineeId);
+        userRepository.deleteByUsername(username);
+        userDetailsService.evictUser(username);
+        tokenService.evictTokenVersion(username);
+        unassignedTrainersCache.evictTrainee(username);
     }
 
     @Override
@@ -117,28 +179,38 @@ public class TraineeService implements TraineeSpecificOperationsService {
         log.info("Transaction ID: {}, Starting to update trainee trainer list with trainee username: {}",
                 transactionId, traineeUsername);
 
-        Trainee trainee = traineeRepository.findByUsername(traineeUsername)
+        Long traineeId = traineeRepository.findIdByUsername(traineeUsername)
                 .orElseThrow(ResourceNotFoundException::new);
-        List<Training> trainings = trainee.getTrainings();
-        List<TrainingIdTrainerUsernamePair> trainingIdTrainerUsernamePairs = updateTraineeTrainerRequest.getTrainingIdTrainerUsernamePairs();
-
-        for (TrainingIdTrainerUsernamePair pair : trainingIdTrainerUsernamePairs) {
-            for (Training training : trainings) {
-                if (pair.getTrainingId().equals(training.getId())) {
-                    Trainer trainer = trainerRepository.findByUsername(pair.getTrainerUsername()).orElseThrow(NoSuchElementException::new);
-                    training.setTrainer(trainer);
-                    training.setTrainingType(trainer.getSpecialization());
-                }
+        Map<Long, String> requestedTrainers = new HashMap<>();
+        for (TrainingIdTrainerUsernamePair pair : updateTraineeTrainerRequest.getTrainingIdTrainerUsernamePairs()) {
+            if (pair.getTrainingId() != null) {
+                requestedTrainers.put(pair.getTrainingId(), pair.getTrainerUsername());
             }
         }
-        Trainee updatedTrainee = traineeRepository.save(trainee);
+        List<Long> trainingIds = requestedTrainers.isEmpty()
+                ? List.of()
+                : trainingRepository.findIdsByTraineeIdAndIdIn(traineeId, requestedTrainers.keySet());
+
+        if (!trainingIds.isEmpty()) {
+            Set<String> trainerUsernames = trainingIds.stream().map(requestedTrainers::get).collect(Collectors.toSet());
+            Map<String, TrainerReferenceRow> trainers = trainerRepository.findReferencesByUsernames(
+                            trainerUsernames.stream().filter(Objects::nonNull).toList()).stream()
+                    .collect(Collectors.toMap(TrainerReferenceRow::username, Function.identity()));
+            if (!trainers.keySet().containsAll(trainerUsernames)) {
+                throw new NoSuchElementException();
+            }
+            jdbcTemplate.batchUpdate(REASSIGN_TRAINER, trainingIds, batchSize, (ps, trainingId) -> {
+                TrainerReferenceRow trainer = trainers.get(requestedTrainers.get(trainingId));
+                ps.setLong(1, trainer.trainerId());
+                ps.setLong(2, trainer.specializationId());
+                ps.setLong(3, trainingId);
+                ps.setLong(4, traineeId);
+            });
+        }
+        unassignedTrainersCache.evictTrainee(traineeUsername);
 
-        log.info("Transaction ID: {}, Successfully updated trainee trainer list with trainee username: {}", transactionId, traineeUsername);
-        return updatedTrainee.getTrainings().stream().map(t -> new TrainerResponseDTO(
-                t.getTrainer().getUser().getUsername(),
-                t.getTrainer().getUser().getFirstName(),
-                t.getTrainer().getUser().getLastName(),
-                new TrainingTypeDTO(t.getTrainingType().getId(), t.getTrainingType().getTrainingTypeName())
-        )).toList();
+        log.info("Transaction ID: {}, Successfully reassigned {} trainings of trainee with username: {}",
+                transactionId, trainingIds.size(), traineeUsername);
+        return trainerMapper.fromSummaryRowsToTrainerResponseDTOList(trainingRepository.findTrainerSummariesByTraineeId(traineeId));
     }
 }
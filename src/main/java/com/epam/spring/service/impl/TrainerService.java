@@ -4,31 +4,39 @@ import com.epam.spring.dto.request.trainer.CreateTrainerRequestDTO;
 import com.epam.spring.dto.request.trainer.UpdateTrainerRequestDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainer.FetchTrainerResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerPageDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.dto.response.trainer.UpdateTrainerResponseDTO;
 import com.epam.spring.error.exception.ResourceNotFoundException;
+import com.epam.spring.mapper.TraineeMapper;
 import com.epam.spring.mapper.TrainerMapper;
 import com.epam.spring.model.Trainer;
 import com.epam.spring.model.TrainingType;
-import com.epam.spring.model.User;
 import com.epam.spring.repository.TraineeRepository;
 import com.epam.spring.repository.TrainerRepository;
 import com.epam.spring.repository.TrainingTypeRepository;
-import com.epam.spring.service.auth.JwtService;
-import com.epam.spring.service.auth.MyUserPrincipal;
+import com.epam.spring.repository.projection.TraineeSummaryRow;
+import com.epam.spring.repository.projection.TrainerProfileRow;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import com.epam.spring.service.auth.CustomUserDetailsService;
 import com.epam.spring.service.auth.TokenService;
 import com.epam.spring.service.base.TrainerSpecificOperationsService;
 import com.epam.spring.util.PasswordGenerator;
+import com.epam.spring.util.SearchMode;
 import com.epam.spring.util.TransactionContext;
-import com.epam.spring.util.UsernameGenerator;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -37,37 +45,58 @@ import java.util.List;
 public class TrainerService implements TrainerSpecificOperationsService {
 
     private final TokenService tokenService;
-    private final UsernameGenerator usernameGenerator;
+    private final UsernameReservationService usernameReservationService;
     private final TrainerRepository trainerRepository;
     private final TraineeRepository traineeRepository;
     private final TrainingTypeRepository trainingTypeRepository;
-    private final JwtService jwtService;
     private final PasswordGenerator passwordGenerator;
     private final TrainerMapper trainerMapper;
+    private final TraineeMapper traineeMapper;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final UnassignedTrainersCache unassignedTrainersCache;
+    private final SearchMode searchMode;
+    private final int defaultSearchLimit;
+    private final int maxSearchLimit;
+    private final int defaultUnassignedPageSize;
+    private final int maxUnassignedPageSize;
 
     private final Counter trainerCreationCounter;
     private final Timer trainerCreationTimer;
 
-    public TrainerService(UsernameGenerator usernameGenerator,
+    public TrainerService(UsernameReservationService usernameReservationService,
                           TokenService tokenService,
                           TrainerRepository trainerRepository,
                           TraineeRepository traineeRepository,
                           TrainingTypeRepository trainingTypeRepository,
                           TrainerMapper trainerMapper,
+                          TraineeMapper traineeMapper,
                           PasswordGenerator passwordGenerator,
                           PasswordEncoder passwordEncoder,
-                          JwtService jwtService,
-                          MeterRegistry meterRegistry) {
-        this.usernameGenerator = usernameGenerator;
+                          CustomUserDetailsService userDetailsService,
+                          UnassignedTrainersCache unassignedTrainersCache,
+                          MeterRegistry meterRegistry,
+                          @Value("${search.mode}") SearchMode searchMode,
+                          @Value("${search.trainers.limit.default}") int defaultSearchLimit,
+                          @Value("${search.trainers.limit.max}") int maxSearchLimit,
+                          @Value("${trainer.unassigned.page-size.default}") int defaultUnassignedPageSize,
+                          @Value("${trainer.unassigned.page-size.max}") int maxUnassignedPageSize) {
+        this.usernameReservationService = usernameReservationService;
         this.trainerRepository = trainerRepository;
         this.trainingTypeRepository = trainingTypeRepository;
         this.passwordGenerator = passwordGenerator;
         this.trainerMapper = trainerMapper;
+        this.traineeMapper = traineeMapper;
         this.traineeRepository = traineeRepository;
         this.tokenService = tokenService;
         this.passwordEncoder = passwordEncoder;
-        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.unassignedTrainersCache = unassignedTrainersCache;
+        this.searchMode = searchMode;
+        this.defaultSearchLimit = defaultSearchLimit;
+        this.maxSearchLimit = maxSearchLimit;
+        this.defaultUnassignedPageSize = defaultUnassignedPageSize;
+        this.maxUnassignedPageSize = maxUnassignedPageSize;
 
         this.trainerCreationCounter = Counter.builder("trainer_creation_total")
                 .description("Total number of trainer creations")
@@ -78,27 +107,29 @@ public class TrainerService implements TrainerSpecificOperationsService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserCredentialsResponseDTO create(CreateTrainerRequestDTO createRequest) {
         return trainerCreationTimer.record(() -> {
             String transactionId = TransactionContext.getTransactionId();
             log.info("Transaction ID: {}, Starting trainer creation for firstName: {}, lastName: {}",
                     transactionId, createRequest.getFirstName(), createRequest.getLastName());
 
-            log.info("Transaction ID: {}, Fetching training type with id: {}", transactionId, createRequest.getTrainingTypeId());
-            TrainingType trainingType = trainingTypeRepository.findById(createRequest.getTrainingTypeId())
-                    .orElseThrow(ResourceNotFoundException::new);
-
-            String uniqueUsername = usernameGenerator.generateUniqueUsername(createRequest.getFirstName(), createRequest.getLastName());
             String password = passwordGenerator.generatePassword();
+            String encodedPassword = passwordEncoder.encode(password);
+            String uniqueUsername = usernameReservationService.reserveAndInsert(createRequest.getFirstName(), createRequest.getLastName(),
+                    username -> {
+                        log.info("Transaction ID: {}, Fetching training type with id: {}", transactionId, createRequest.getTrainingTypeId());
+                        TrainingType trainingType = trainingTypeRepository.findById(createRequest.getTrainingTypeId())
+                                .orElseThrow(ResourceNotFoundException::new);
 
-            log.info("Transaction ID: {}, Generated username: {}", transactionId, uniqueUsername);
-            Trainer trainer = trainerMapper.fromCreateTrainerRequestToTrainer(createRequest, uniqueUsername, passwordEncoder.encode(password));
-            trainer.setSpecialization(trainingType);
-
-            Trainer savedTrainer = trainerRepository.save(trainer);
-            User user = savedTrainer.getUser();
-            String token = jwtService.generateToken(new MyUserPrincipal(user));
-            tokenService.updateUserToken(user.getUsername(), token);
+                        log.info("Transaction ID: {}, Generated username: {}", transactionId, username);
+                        Trainer trainer = trainerMapper.fromCreateTrainerRequestToTrainer(createRequest, username, encodedPassword);
+                        trainer.setSpecialization(trainingType);
+                        trainerRepository.saveAndFlush(trainer);
+                        userDetailsService.evictUser(username);
+                        unassignedTrainersCache.evictAll();
+                        return username;
+                    });
             trainerCreationCounter.increment();
             log.info("Transaction ID: {}, Successfully created trainer with username: {}", transactionId, uniqueUsername);
 
@@ -106,17 +137,52 @@ public class TrainerService implements TrainerSpecificOperationsService {
         });
     }
 
+    /**
+     * Persists one chunk of a bulk import and returns the generated usernames in request order. Requests, including
+     * their training type ids, are validated and passwords hashed by the caller.
+     */
+    public List<String> createAll(List<CreateTrainerRequestDTO> createRequests, List<String> encodedPasswords) {
+        String transactionId = TransactionContext.getTransactionId();
+        log.info("Transaction ID: {}, Starting bulk creation of {} trainers", transactionId, createRequests.size());
+
+        List<String> usernames = usernameReservationService.reserveAll(createRequests,
+                CreateTrainerRequestDTO::getFirstName, CreateTrainerRequestDTO::getLastName);
+        List<Trainer> trainers = new ArrayList<>(createRequests.size());
+        for (int i = 0; i < createRequests.size(); i++) {
+            CreateTrainerRequestDTO createRequest = createRequests.get(i);
+            Trainer trainer = trainerMapper.fromCreateTrainerRequestToTrainer(createRequest, usernames.get(i), encodedPasswords.get(i));
+            trainer.setSpecialization(trainingTypeRepository.getReferenceById(createRequest.getTrainingTypeId()));
+            trainers.add(trainer);
+        }
+
+        try {
+            trainerRepository.saveAll(trainers);
+            trainerRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Transaction ID: {}, A username in the bulk chunk was taken concurrently", transactionId);
+            createRequests.forEach(request -> usernameReservationService.invalidate(request.getFirstName(), request.getLastName()));
+            throw ex;
+        }
+        usernames.forEach(userDetailsService::evictUser);
+        unassignedTrainersCache.evictAll();
+        trainerCreationCounter.increment(usernames.size());
+        log.info("Transaction ID: {}, Successfully created {} trainers", transactionId, usernames.size());
+        return usernames;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public FetchTrainerResponseDTO getUserProfile(String username) {
         String transactionId = TransactionContext.getTransactionId();
         log.info("Transaction ID: {}, Fetching trainer with username: {}", transactionId, username);
 
-        Trainer trainer = trainerRepository.findByUsername(username)
+        TrainerProfileRow profile = trainerRepository.findProfileByUsername(username)
                 .orElseThrow(ResourceNotFoundException::new);
+        List<TraineeSummaryRow> trainees = trainerRepository.findTraineesOfTrainer(profile.id());
         log.info("Transaction ID: {}, Successfully fetched trainer with username: {}", transactionId, username);
 
-        return trainerMapper.fromTrainerToFetchTrainerResponse(trainer);
+        return trainerMapper.fromProfileToFetchTrainerResponse(profile,
+                traineeMapper.fromSummaryRowsToTraineeResponseDTOList(trainees));
     }
 
     @Override
@@ -125,7 +191,7 @@ public class TrainerService implements TrainerSpecificOperationsService {
         String username = updateRequest.getUsername();
         log.info("Transaction ID: {}, Starting to update trainer with username: {}", transactionId, username);
 
-        Trainer trainer = trainerRepository.findByUsername(username)
+        Trainer trainer = trainerRepository.findWithUserByUsername(username)
                 .orElseThrow(ResourceNotFoundException::new);
         TrainingType trainingType = trainingTypeRepository.findById(Long.valueOf(updateRequest.getSpecializationId()))
                 .orElseThrow(ResourceNotFoundException::new);
@@ -133,22 +199,62 @@ public class TrainerService implements TrainerSpecificOperationsService {
         trainer.setSpecialization(trainingType);
 
         Trainer updatedTrainer = trainerRepository.save(trainer);
+        userDetailsService.evictUser(username);
+        unassignedTrainersCache.evictAll();
+        tokenService.markUserStateChanged(username);
         log.info("Transaction ID: {}, Successfully updated trainer with username: {}", transactionId, username);
 
-        return trainerMapper.fromTrainerToUpdatedTrainerResponse(updatedTrainer);
+        List<TraineeSummaryRow> trainees = trainerRepository.findTraineesOfTrainer(updatedTrainer.getId());
+        return trainerMapper.fromTrainerToUpdatedTrainerResponse(updatedTrainer,
+                traineeMapper.fromSummaryRowsToTraineeResponseDTOList(trainees));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TrainerResponseDTO> findUnassignedTrainersByTraineeUsername(String username) {
+    public TrainerPageDTO findUnassignedTrainersByTraineeUsername(String username, String cursor, Integer pageSize) {
         String transactionId = TransactionContext.getTransactionId();
         log.info("Transaction ID: {}, Fetching unassigned trainers for trainee with username: {}", transactionId, username);
 
-        traineeRepository.findByUsername(username).orElseThrow(ResourceNotFoundException::new);
+        int resolvedPageSize = pageSize == null ? defaultUnassignedPageSize : Math.min(Math.max(pageSize, 1), maxUnassignedPageSize);
+        TrainerPageDTO cachedPage = unassignedTrainersCache.getIfPresent(username, cursor, resolvedPageSize);
+        if (cachedPage != null) {
+            log.info("Transaction ID: {}, Served unassigned trainers for trainee with username: {} from cache", transactionId, username);
+            return cachedPage;
+        }
 
-        List<Trainer> trainers = trainerRepository.findUnassignedTrainersByTraineeUsername(username);
+        Long traineeId = traineeRepository.findIdByUsername(username).orElseThrow(ResourceNotFoundException::new);
+        List<TrainerSummaryRow> rows = trainerRepository.findUnassignedTrainers(traineeId,
+                cursor == null ? "" : cursor, Limit.of(resolvedPageSize + 1));
+        TrainerPageDTO page = toPage(rows, resolvedPageSize);
+        unassignedTrainersCache.put(username, cursor, resolvedPageSize, page);
         log.info("Transaction ID: {}, Successfully fetched unassigned trainers for trainee with username: {}", transactionId, username);
 
-        return trainerMapper.fromTrainerListToTrainerResponseDTOList(trainers);
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TrainerResponseDTO> searchTrainers(String query, Integer limit) {
+        String transactionId = TransactionContext.getTransactionId();
+        log.info("Transaction ID: {}, Searching trainers matching: {}", transactionId, query);
+
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String trimmedQuery = query.trim();
+        int resultLimit = limit == null ? defaultSearchLimit : Math.max(1, Math.min(limit, maxSearchLimit));
+        List<TrainerSummaryRow> rows = trainerRepository.searchByUsername(trimmedQuery,
+                searchMode.toLikePattern(trimmedQuery), SearchMode.PREFIX.toLikePattern(trimmedQuery), Limit.of(resultLimit));
+        log.info("Transaction ID: {}, Found {} trainers matching: {}", transactionId, rows.size(), query);
+
+        return trainerMapper.fromSummaryRowsToTrainerResponseDTOList(rows);
+    }
+
+    private TrainerPageDTO toPage(List<TrainerSummaryRow> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new TrainerPageDTO(trainerMapper.fromSummaryRowsToTrainerResponseDTOList(rows), null);
+        }
+        List<TrainerSummaryRow> page = rows.subList(0, pageSize);
+        return new TrainerPageDTO(trainerMapper.fromSummaryRowsToTrainerResponseDTOList(page), page.get(pageSize - 1).username());
     }
 }
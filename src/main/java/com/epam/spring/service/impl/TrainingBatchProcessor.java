@@ -0,0 +1,112 @@
+package com.epam.spring.service.impl;
+
+import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
+import com.epam.spring.dto.response.BatchItemResultDTO;
+import com.epam.spring.util.TransactionContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams a JSON array or NDJSON body of training requests through {@link TrainingService#createBatch}
+ * in fixed-size chunks, writing one NDJSON result line per item, so memory stays bounded by the chunk size.
+ */
+@Slf4j
+@Component
+public class TrainingBatchProcessor {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final TrainingService trainingService;
+    private final ObjectReader requestReader;
+    private final ObjectWriter resultWriter;
+    private final int chunkSize;
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+
+    public TrainingBatchProcessor(TrainingService trainingService,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${training.batch.chunk-size}") int chunkSize) {
+        this.trainingService = trainingService;
+        this.requestReader = objectMapper.readerFor(CreateTrainingRequestDTO.class);
+        this.resultWriter = objectMapper.writerFor(BatchItemResultDTO.class);
+        this.chunkSize = chunkSize;
+        this.createdCounter = batchItemCounter(meterRegistry, BatchItemResultDTO.Status.CREATED);
+        this.failedCounter = batchItemCounter(meterRegistry, BatchItemResultDTO.Status.FAILED);
+    }
+
+    public void process(InputStream input, OutputStream output) throws IOException {
+        String transactionId = TransactionContext.getTransactionId();
+        List<CreateTrainingRequestDTO> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        try (MappingIterator<CreateTrainingRequestDTO> requests = requestReader.readValues(input)) {
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    index = flushChunk(chunk, index, output);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Transaction ID: {}, Malformed batch item after index {}: {}",
+                    transactionId, index + chunk.size() - 1, e.getOriginalMessage());
+            int failedIndex = flushChunk(chunk, index, output);
+            write(BatchItemResultDTO.failed(failedIndex, "Malformed request body"), output);
+            output.flush();
+            return;
+        }
+        flushChunk(chunk, index, output);
+        log.info("Transaction ID: {}, Finished batch of {} training items", transactionId, index + chunk.size());
+    }
+
+    private int flushChunk(List<CreateTrainingRequestDTO> chunk, int firstIndex, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return firstIndex;
+        }
+        List<BatchItemResultDTO> results;
+        try {
+            results = trainingService.createBatch(chunk, firstIndex);
+        } catch (DataAccessException e) {
+            log.warn("Transaction ID: {}, Batch chunk starting at {} was rolled back: {}",
+                    TransactionContext.getTransactionId(), firstIndex, e.getMostSpecificCause().getMessage());
+            results = new ArrayList<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BatchItemResultDTO.failed(firstIndex + i, "Chunk rolled back due to a conflicting write"));
+            }
+        }
+        for (BatchItemResultDTO result : results) {
+            write(result, output);
+        }
+        output.flush();
+        int nextIndex = firstIndex + chunk.size();
+        chunk.clear();
+        return nextIndex;
+    }
+
+    private void write(BatchItemResultDTO result, OutputStream output) throws IOException {
+        (result.getStatus() == BatchItemResultDTO.Status.CREATED ? createdCounter : failedCounter).increment();
+        output.write(resultWriter.writeValueAsBytes(result));
+        output.write(LINE_SEPARATOR);
+    }
+
+    private static Counter batchItemCounter(MeterRegistry meterRegistry, BatchItemResultDTO.Status status) {
+        return Counter.builder("training_batch_items_total")
+                .tag("status", status.name().toLowerCase())
+                .description("Bulk training items by result")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,146 @@
+package com.epam.spring.service.impl;
+
+import com.epam.spring.error.exception.ResourceNotFoundException;
+import com.epam.spring.repository.TraineeRepository;
+import com.epam.spring.repository.TrainerRepository;
+import com.epam.spring.repository.TrainingRepository;
+import com.epam.spring.repository.projection.TrainingExportRow;
+import com.epam.spring.util.ExportFormat;
+import com.epam.spring.util.TransactionContext;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams complete training histories as NDJSON or CSV. Rows come from a forward-only cursor opened inside a
+ * read-only transaction on the response thread and are written one by one, so heap use does not depend on the
+ * number of rows. Because that transaction holds a pooled connection for the whole download, exports get their own
+ * {@code training.export.timeout}, applied both to the async request and to the transaction's queries.
+ */
+@Slf4j
+@Component
+public class TrainingExporter {
+
+    private final TrainingRepository trainingRepository;
+    private final TraineeRepository traineeRepository;
+    private final TrainerRepository trainerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMillis;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+    private final Counter ndjsonRowsCounter;
+    private final Counter csvRowsCounter;
+
+    public TrainingExporter(TrainingRepository trainingRepository,
+                            TraineeRepository traineeRepository,
+                            TrainerRepository trainerRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${training.export.timeout}") long timeoutMillis) {
+        this.trainingRepository = trainingRepository;
+        this.traineeRepository = traineeRepository;
+        this.trainerRepository = trainerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Duration.ofMillis(timeoutMillis).toSeconds());
+        this.timeoutMillis = timeoutMillis;
+        this.ndjsonWriter = objectMapper.writerFor(TrainingExportRow.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.csvWriter = csvMapper.writer(csvMapper.schemaFor(TrainingExportRow.class).withHeader())
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.ndjsonRowsCounter = exportRowCounter(meterRegistry, ExportFormat.NDJSON);
+        this.csvRowsCounter = exportRowCounter(meterRegistry, ExportFormat.CSV);
+    }
+
+    public StreamingResponseBody exportTraineeTrainings(String traineeUsername, LocalDate fromDate, LocalDate toDate, ExportFormat format) {
+        if (!traineeRepository.existsByUserUsername(traineeUsername)) {
+            throw new ResourceNotFoundException(traineeUsername);
+        }
+        return export(traineeUsername, format,
+                () -> trainingRepository.streamTraineeTrainings(traineeUsername, fromDate, toDate));
+    }
+
+    public StreamingResponseBody exportTrainerTrainings(String trainerUsername, LocalDate fromDate, LocalDate toDate, ExportFormat format) {
+        if (!trainerRepository.existsByUserUsername(trainerUsername)) {
+            throw new ResourceNotFoundException(trainerUsername);
+        }
+        return export(trainerUsername, format,
+                () -> trainingRepository.streamTrainerTrainings(trainerUsername, fromDate, toDate));
+    }
+
+    /**
+     * Sets the async timeout of the current export request; other async endpoints keep spring.mvc.async.request-timeout.
+     */
+    public void applyTimeout(HttpServletRequest request) {
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest();
+        if (asyncWebRequest != null) {
+            asyncWebRequest.setTimeout(timeoutMillis);
+        }
+    }
+
+    private StreamingResponseBody export(String username, ExportFormat format, Supplier<Stream<TrainingExportRow>> rows) {
+        String transactionId = TransactionContext.getTransactionId();
+        return output -> {
+            long written = readOnlyTransaction.execute(status -> {
+                try (Stream<TrainingExportRow> stream = rows.get()) {
+                    return write(stream, format, output);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("Transaction ID: {}, Exported {} trainings of {} as {}", transactionId, written, username, format);
+        };
+    }
+
+    private long write(Stream<TrainingExportRow> rows, ExportFormat format, OutputStream output) throws IOException {
+        Counter rowsCounter = format == ExportFormat.CSV ? csvRowsCounter : ndjsonRowsCounter;
+        long written = 0;
+        try (SequenceWriter sequenceWriter = (format == ExportFormat.CSV ? csvWriter : ndjsonWriter).writeValues(output)) {
+            for (Iterator<TrainingExportRow> iterator = rows.iterator(); iterator.hasNext(); written++) {
+                sequenceWriter.write(iterator.next());
+                rowsCounter.increment();
+            }
+        }
+        if (format == ExportFormat.NDJSON && written > 0) {
+            output.write('\n');
+        }
+        return written;
+    }
+
+    private static Counter exportRowCounter(MeterRegistry meterRegistry, ExportFormat format) {
+        return Counter.builder("training_export_rows_total")
+                .tag("format", format.name().toLowerCase())
+                .description("Training rows written by history exports")
+                .register(meterRegistry);
+    }
+}
@@ -3,34 +3,58 @@ package com.epam.spring.service.impl;
 import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
 import com.epam.spring.dto.request.training.FetchTraineeTrainingsRequestDTO;
 import com.epam.spring.dto.request.training.FetchTrainerTrainingsRequestDTO;
-import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
+import com.epam.spring.dto.response.BatchItemResultDTO;
+import com.epam.spring.dto.response.training.FetchUserTrainingsPageDTO;
 import com.epam.spring.error.exception.ResourceNotFoundException;
 import com.epam.spring.mapper.TrainingMapper;
-import com.epam.spring.model.Trainee;
-import com.epam.spring.model.Trainer;
 import com.epam.spring.model.Training;
 import com.epam.spring.repository.TraineeRepository;
 import com.epam.spring.repository.TrainerRepository;
 import com.epam.spring.repository.TrainingRepository;
+import com.epam.spring.repository.TrainingTypeRepository;
+import com.epam.spring.repository.projection.TrainerReferenceRow;
+import com.epam.spring.repository.projection.TrainingHistoryRow;
+import com.epam.spring.repository.projection.TrainingPairRow;
 import com.epam.spring.service.base.TrainingSpecificOperationsService;
+import com.epam.spring.util.TrainingCursor;
 import com.epam.spring.util.TransactionContext;
-import lombok.AllArgsConstructor;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Transactional
-@AllArgsConstructor
+@RequiredArgsConstructor
 @Service
 public class TrainingService implements TrainingSpecificOperationsService {
 
     private final TrainingRepository trainingRepository;
     private final TrainerRepository trainerRepository;
     private final TraineeRepository traineeRepository;
+    private final TrainingTypeRepository trainingTypeRepository;
     private final TrainingMapper trainingMapper;
+    private final UnassignedTrainersCache unassignedTrainersCache;
+    private final Validator validator;
+
+    @Value("${training.history.page-size.default}")
+    private int defaultPageSize;
+
+    @Value("${training.history.page-size.max}")
+    private int maxPageSize;
 
     @Override
     public void create(CreateTrainingRequestDTO createTrainingRequest) {
@@ -40,56 +64,166 @@ public class TrainingService implements TrainingSpecificOperationsService {
         log.info("Transaction ID: {}, Starting creation of training for trainee: {}, trainer: {}",
                 transactionId, traineeUsername, trainerUsername);
 
-        Trainee trainee = traineeRepository.findByUsername(traineeUsername).orElseThrow(() -> new ResourceNotFoundException(traineeUsername));
-        Trainer trainer = trainerRepository.findByUsername(trainerUsername).orElseThrow(() -> new ResourceNotFoundException(trainerUsername));
-        Training training = trainingMapper.fromCreateTrainingRequestToTraining(createTrainingRequest, trainee, trainer);
+        Long traineeId = traineeRepository.findIdByUsername(traineeUsername).orElseThrow(() -> new ResourceNotFoundException(traineeUsername));
+        TrainerReferenceRow trainer = trainerRepository.findReferenceByUsername(trainerUsername).orElseThrow(() -> new ResourceNotFoundException(trainerUsername));
+        Training training = trainingMapper.fromCreateTrainingRequestToTraining(createTrainingRequest,
+                traineeRepository.getReferenceById(traineeId),
+                trainerRepository.getReferenceById(trainer.trainerId()),
+                trainingTypeRepository.getReferenceById(trainer.specializationId()));
 
         trainingRepository.save(training);
+        unassignedTrainersCache.evictTrainee(traineeUsername);
         log.info("Transaction ID: {}, Successfully created training with id: {}", transactionId, training.getId());
     }
 
+    /**
+     * Creates one chunk of a bulk request. Usernames are resolved with a single IN query per role and
+     * accepted rows are written through the JDBC batch, so the cost per chunk is a fixed number of statements.
+     */
+    public List<BatchItemResultDTO> createBatch(List<CreateTrainingRequestDTO> requests, int firstIndex) {
+        String transactionId = TransactionContext.getTransactionId();
+        log.info("Transaction ID: {}, Starting batch creation of {} trainings from item {}",
+                transactionId, requests.size(), firstIndex);
+
+        Set<String> traineeUsernames = new HashSet<>();
+        Set<String> trainerUsernames = new HashSet<>();
+        for (CreateTrainingRequestDTO request : requests) {
+            traineeUsernames.add(request.getTraineeUsername());
+            trainerUsernames.add(request.getTrainerUsername());
+        }
+        traineeUsernames.remove(null);
+        trainerUsernames.remove(null);
+
+        Map<String, Long> traineeIds = new HashMap<>();
+        if (!traineeUsernames.isEmpty()) {
+            traineeRepository.findIdsByUsernames(traineeUsernames).forEach(row -> traineeIds.put(row.username(), row.id()));
+        }
+        Map<String, TrainerReferenceRow> trainers = new HashMap<>();
+        if (!trainerUsernames.isEmpty()) {
+            trainerRepository.findReferencesByUsernames(trainerUsernames).forEach(row -> trainers.put(row.username(), row));
+        }
+        Set<TrainingPairRow> pairs = new HashSet<>();
+        if (!traineeIds.isEmpty() && !trainers.isEmpty()) {
+            pairs.addAll(trainingRepository.findExistingPairs(traineeIds.values(),
+                    trainers.values().stream().map(TrainerReferenceRow::trainerId).toList()));
+        }
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+        List<Training> trainings = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTrainingRequestDTO request = requests.get(i);
+            int index = firstIndex + i;
+            Set<ConstraintViolation<CreateTrainingRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results[i] = BatchItemResultDTO.failed(index, violations.iterator().next().getMessage());
+                continue;
+            }
+            Long traineeId = traineeIds.get(request.getTraineeUsername());
+            TrainerReferenceRow trainer = trainers.get(request.getTrainerUsername());
+            if (traineeId == null || trainer == null) {
+                String missing = traineeId == null ? request.getTraineeUsername() : request.getTrainerUsername();
+                results[i] = BatchItemResultDTO.failed(index, "User with username: " + missing + " not found");
+                continue;
+            }
+            if (!pairs.add(new TrainingPairRow(traineeId, trainer.trainerId()))) {
+                results[i] = BatchItemResultDTO.failed(index, "Training between " + request.getTraineeUsername()
+                        + " and " + request.getTrainerUsername() + " already exists");
+                continue;
+            }
+            try {
+                trainings.add(trainingMapper.fromCreateTrainingRequestToTraining(request,
+                        traineeRepository.getReferenceById(traineeId),
+                        trainerRepository.getReferenceById(trainer.trainerId()),
+                        trainingTypeRepository.getReferenceById(trainer.specializationId())));
+                positions.add(i);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                pairs.remove(new TrainingPairRow(traineeId, trainer.trainerId()));
+                results[i] = BatchItemResultDTO.failed(index, "Invalid training date or duration");
+            }
+        }
+
+        trainingRepository.saveAll(trainings);
+        trainingRepository.flush();
+        for (int i = 0; i < trainings.size(); i++) {
+            int position = positions.get(i);
+            results[position] = BatchItemResultDTO.created(firstIndex + position, trainings.get(i).getId());
+            unassignedTrainersCache.evictTrainee(requests.get(position).getTraineeUsername());
+        }
+        log.info("Transaction ID: {}, Successfully created {} of {} trainings from item {}",
+                transactionId, trainings.size(), requests.size(), firstIndex);
+        return Arrays.asList(results);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<FetchUserTrainingsResponseDTO> findTraineeTrainings(FetchTraineeTrainingsRequestDTO fetchTraineeTrainingsRequest) {
+    public FetchUserTrainingsPageDTO findTraineeTrainings(FetchTraineeTrainingsRequestDTO fetchTraineeTrainingsRequest) {
         String transactionId = TransactionContext.getTransactionId();
         String traineeUsername = fetchTraineeTrainingsRequest.getTraineeUsername();
         log.info("Transaction ID: {}, Fetching trainings for trainee: {}",
                 transactionId, traineeUsername);
 
-        traineeRepository.findByUsername(traineeUsername)
-                .orElseThrow(() -> new ResourceNotFoundException(traineeUsername));
+        if (!traineeRepository.existsByUserUsername(traineeUsername)) {
+            throw new ResourceNotFoundException(traineeUsername);
+        }
 
-        List<Training> traineeTrainings = trainingRepository.findTraineeTrainings(
+        int pageSize = resolvePageSize(fetchTraineeTrainingsRequest.getPageSize());
+        TrainingCursor cursor = TrainingCursor.decode(fetchTraineeTrainingsRequest.getCursor());
+        List<TrainingHistoryRow> traineeTrainings = trainingRepository.findTraineeTrainings(
                 traineeUsername,
                 fetchTraineeTrainingsRequest.getFromDate(),
                 fetchTraineeTrainingsRequest.getToDate(),
                 fetchTraineeTrainingsRequest.getTrainerUsername(),
-                fetchTraineeTrainingsRequest.getTrainingTypeName()
+                fetchTraineeTrainingsRequest.getTrainingTypeName(),
+                cursor == null ? null : cursor.date(),
+                cursor == null ? null : cursor.id(),
+                Limit.of(pageSize + 1)
         );
         log.info("Transaction ID: {}, Successfully fetched trainings for trainee: {}, size: {}",
-                transactionId, traineeUsername, traineeTrainings.size());
-        return trainingMapper.fromUserListToFetchUserTrainingsResponseList(traineeTrainings);
+                transactionId, traineeUsername, Math.min(traineeTrainings.size(), pageSize));
+        return toPage(traineeTrainings, pageSize);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<FetchUserTrainingsResponseDTO> findTrainerTrainings(FetchTrainerTrainingsRequestDTO fetchTrainerTrainingsRequest) {
+    public FetchUserTrainingsPageDTO findTrainerTrainings(FetchTrainerTrainingsRequestDTO fetchTrainerTrainingsRequest) {
         String transactionId = TransactionContext.getTransactionId();
         String trainerUsername = fetchTrainerTrainingsRequest.getTrainerUsername();
         log.info("Transaction ID: {}, Fetching trainings for trainer: {}",
                 transactionId, trainerUsername);
 
-        trainerRepository.findByUsername(fetchTrainerTrainingsRequest.getTrainerUsername())
-                .orElseThrow(() -> new ResourceNotFoundException(trainerUsername));
+        if (!trainerRepository.existsByUserUsername(trainerUsername)) {
+            throw new ResourceNotFoundException(trainerUsername);
+        }
 
-        List<Training> trainerTrainings = trainingRepository.findTrainerTrainings(
+        int pageSize = resolvePageSize(fetchTrainerTrainingsRequest.getPageSize());
+        TrainingCursor cursor = TrainingCursor.decode(fetchTrainerTrainingsRequest.getCursor());
+        List<TrainingHistoryRow> trainerTrainings = trainingRepository.findTrainerTrainings(
                 trainerUsername,
                 fetchTrainerTrainingsRequest.getFromDate(),
                 fetchTrainerTrainingsRequest.getToDate(),
-                fetchTrainerTrainingsRequest.getTraineeUsername()
+                fetchTrainerTrainingsRequest.getTraineeUsername(),
+                cursor == null ? null : cursor.date(),
+                cursor == null ? null : cursor.id(),
+                Limit.of(pageSize + 1)
         );
         log.info("Transaction ID: {}, Successfully fetched trainings for trainer: {}, size: {}",
-                transactionId, trainerUsername, trainerTrainings.size());
-        return trainingMapper.fromUserListToFetchUserTrainingsResponseList(trainerTrainings);
+                transactionId, trainerUsername, Math.min(trainerTrainings.size(), pageSize));
+        return toPage(trainerTrainings, pageSize);
+    }
+
+    private int resolvePageSize(Integer requestedPageSize) {
+        return requestedPageSize == null ? defaultPageSize : Math.min(requestedPageSize, maxPageSize);
+    }
+
+    private FetchUserTrainingsPageDTO toPage(List<TrainingHistoryRow> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new FetchUserTrainingsPageDTO(trainingMapper.fromHistoryRowsToFetchUserTrainingsResponseList(rows), null);
+        }
+        List<TrainingHistoryRow> page = rows.subList(0, pageSize);
+        TrainingHistoryRow last = page.get(pageSize - 1);
+        return new FetchUserTrainingsPageDTO(
+                trainingMapper.fromHistoryRowsToFetchUserTrainingsResponseList(page),
+                new TrainingCursor(last.date(), last.id()).encode());
     }
 }
@@ -0,0 +1,70 @@
+package com.epam.spring.service.impl;
+
+import com.epam.spring.dto.response.trainer.TrainerPageDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches unassigned-trainer pages per trainee. Evictions are applied immediately and again after the surrounding
+ * transaction commits, which narrows the window for re-population from rows read before the commit. This is best
+ * effort: a reader whose query ran before the commit but whose put lands after the second eviction still caches a
+ * stale page until the TTL expires, so the TTL bounds how long such a page can be served.
+ */
+@Component
+public class UnassignedTrainersCache {
+
+    private final Cache<String, Map<PageKey, TrainerPageDTO>> pagesByTrainee;
+
+    public UnassignedTrainersCache(MeterRegistry meterRegistry,
+                                   @Value("${trainer.unassigned.cache.maximum-size}") long maximumSize,
+                                   @Value("${trainer.unassigned.cache.ttl}") long ttlMillis) {
+        this.pagesByTrainee = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pagesByTrainee, "unassigned_trainers");
+    }
+
+    public TrainerPageDTO getIfPresent(String traineeUsername, String cursor, int pageSize) {
+        Map<PageKey, TrainerPageDTO> pages = pagesByTrainee.getIfPresent(traineeUsername);
+        return pages == null ? null : pages.get(new PageKey(cursor, pageSize));
+    }
+
+    public void put(String traineeUsername, String cursor, int pageSize, TrainerPageDTO page) {
+        pagesByTrainee.get(traineeUsername, key -> new ConcurrentHashMap<>()).put(new PageKey(cursor, pageSize), page);
+    }
+
+    public void evictTrainee(String traineeUsername) {
+        pagesByTrainee.invalidate(traineeUsername);
+        afterCommit(() -> pagesByTrainee.invalidate(traineeUsername));
+    }
+
+    public void evictAll() {
+        pagesByTrainee.invalidateAll();
+        afterCommit(pagesByTrainee::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record PageKey(String cursor, int pageSize) {}
+}
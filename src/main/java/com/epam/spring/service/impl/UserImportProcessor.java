@@ -0,0 +1,249 @@
+package com.epam.spring.service.impl;
+
+import com.epam.spring.dto.request.trainee.CreateTraineeRequestDTO;
+import com.epam.spring.dto.request.trainer.CreateTrainerRequestDTO;
+import com.epam.spring.dto.response.BatchItemResultDTO;
+import com.epam.spring.dto.response.UserImportResultDTO;
+import com.epam.spring.error.exception.ServiceOverloadedException;
+import com.epam.spring.model.TrainingType;
+import com.epam.spring.repository.TrainingTypeRepository;
+import com.epam.spring.service.auth.BoundedPasswordEncoder;
+import com.epam.spring.util.PasswordGenerator;
+import com.epam.spring.util.TransactionContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a CSV (with header row), JSON array or NDJSON roster of new trainees or trainers into the database in
+ * chunks of {@code user.import.chunk-size}. For every chunk, passwords are hashed in parallel on the bounded encoder
+ * pool, usernames are reserved in bulk and the rows are written in one batched transaction; one NDJSON line with the
+ * generated credentials or the failure reason is streamed back per item.
+ */
+@Slf4j
+@Component
+public class UserImportProcessor {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+    private static final String TRAINEE_ROLE = "trainee";
+    private static final String TRAINER_ROLE = "trainer";
+
+    private final TraineeService traineeService;
+    private final TrainerService trainerService;
+    private final TrainingTypeRepository trainingTypeRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final PasswordGenerator passwordGenerator;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final ObjectWriter resultWriter;
+    private final int chunkSize;
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeImports = new AtomicInteger();
+    private final Timer chunkTimer;
+    private final Counter traineeCreatedCounter;
+    private final Counter traineeFailedCounter;
+    private final Counter trainerCreatedCounter;
+    private final Counter trainerFailedCounter;
+
+    public UserImportProcessor(TraineeService traineeService,
+                               TrainerService trainerService,
+                               TrainingTypeRepository trainingTypeRepository,
+                               BoundedPasswordEncoder passwordEncoder,
+                               PasswordGenerator passwordGenerator,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${user.import.chunk-size}") int chunkSize) {
+        this.traineeService = traineeService;
+        this.trainerService = trainerService;
+        this.trainingTypeRepository = trainingTypeRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordGenerator = passwordGenerator;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.resultWriter = objectMapper.writerFor(UserImportResultDTO.class);
+        this.chunkSize = chunkSize;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("user_import_active", activeImports, AtomicInteger::get)
+                .description("Bulk user imports currently streaming")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("user_import_chunk_duration_seconds")
+                .description("Time taken to hash, reserve and persist one bulk import chunk")
+                .register(meterRegistry);
+        this.traineeCreatedCounter = importItemCounter(meterRegistry, TRAINEE_ROLE, BatchItemResultDTO.Status.CREATED);
+        this.traineeFailedCounter = importItemCounter(meterRegistry, TRAINEE_ROLE, BatchItemResultDTO.Status.FAILED);
+        this.trainerCreatedCounter = importItemCounter(meterRegistry, TRAINER_ROLE, BatchItemResultDTO.Status.CREATED);
+        this.trainerFailedCounter = importItemCounter(meterRegistry, TRAINER_ROLE, BatchItemResultDTO.Status.FAILED);
+    }
+
+    public void importTrainees(InputStream input, String contentType, OutputStream output) throws IOException {
+        run(new ImportJob<>(TRAINEE_ROLE, reader(CreateTraineeRequestDTO.class, contentType),
+                UserImportProcessor::checkTrainee, traineeService::createAll,
+                traineeCreatedCounter, traineeFailedCounter), input, output);
+    }
+
+    public void importTrainers(InputStream input, String contentType, OutputStream output) throws IOException {
+        Set<Long> trainingTypeIds = trainingTypeRepository.findAll().stream()
+                .map(TrainingType::getId)
+                .collect(Collectors.toSet());
+        Function<CreateTrainerRequestDTO, String> check = request -> trainingTypeIds.contains(request.getTrainingTypeId())
+                ? null
+                : "Training type not found";
+        run(new ImportJob<>(TRAINER_ROLE, reader(CreateTrainerRequestDTO.class, contentType), check, trainerService::createAll,
+                trainerCreatedCounter, trainerFailedCounter), input, output);
+    }
+
+    private <T> void run(ImportJob<T> job, InputStream input, OutputStream output) throws IOException {
+        String transactionId = TransactionContext.getTransactionId();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        int index = 0;
+        activeImports.incrementAndGet();
+        try (MappingIterator<T> requests = job.reader().readValues(input)) {
+            while (requests.hasNextValue()) {
+                chunk.add(requests.nextValue());
+                if (chunk.size() == chunkSize) {
+                    index = processChunk(job, chunk, index, output);
+                }
+            }
+            index = processChunk(job, chunk, index, output);
+            log.info("Transaction ID: {}, Finished {} import of {} items", transactionId, job.role(), index);
+        } catch (JsonProcessingException e) {
+            log.warn("Transaction ID: {}, Malformed {} import item after index {}: {}",
+                    transactionId, job.role(), index + chunk.size() - 1, e.getOriginalMessage());
+            int failedIndex = processChunk(job, chunk, index, output);
+            write(job, UserImportResultDTO.failed(failedIndex, "Malformed request body"), output);
+            output.flush();
+        } finally {
+            activeImports.decrementAndGet();
+        }
+    }
+
+    private <T> int processChunk(ImportJob<T> job, List<T> chunk, int firstIndex, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return firstIndex;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        UserImportResultDTO[] results = new UserImportResultDTO[chunk.size()];
+        List<T> accepted = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        List<String> passwords = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            T request = chunk.get(i);
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            String error = violations.isEmpty() ? job.check().apply(request) : violations.iterator().next().getMessage();
+            if (error != null) {
+                results[i] = UserImportResultDTO.failed(firstIndex + i, error);
+                continue;
+            }
+            accepted.add(request);
+            positions.add(i);
+            passwords.add(passwordGenerator.generatePassword());
+        }
+
+        if (!accepted.isEmpty()) {
+            try {
+                List<String> usernames = job.persist().apply(accepted, passwordEncoder.encodeAll(passwords));
+                for (int i = 0; i < usernames.size(); i++) {
+                    int position = positions.get(i);
+                    results[position] = UserImportResultDTO.created(firstIndex + position, usernames.get(i), passwords.get(i));
+                }
+            } catch (DataAccessException | ServiceOverloadedException e) {
+                log.warn("Transaction ID: {}, {} import chunk starting at {} was rolled back: {}",
+                        TransactionContext.getTransactionId(), job.role(), firstIndex, e.getMessage());
+                for (int position : positions) {
+                    results[position] = UserImportResultDTO.failed(firstIndex + position, "Chunk rolled back, retry these items");
+                }
+            }
+        }
+
+        for (UserImportResultDTO result : results) {
+            write(job, result, output);
+        }
+        output.flush();
+        sample.stop(chunkTimer);
+        int nextIndex = firstIndex + chunk.size();
+        chunk.clear();
+        return nextIndex;
+    }
+
+    private void write(ImportJob<?> job, UserImportResultDTO result, OutputStream output) throws IOException {
+        (result.getStatus() == BatchItemResultDTO.Status.CREATED ? job.createdCounter() : job.failedCounter()).increment();
+        output.write(resultWriter.writeValueAsBytes(result));
+        output.write(LINE_SEPARATOR);
+    }
+
+    private ObjectReader reader(Class<?> type, String contentType) {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(MediaType.parseMediaType(contentType))) {
+            return csvMapper.readerFor(type).with(CsvSchema.emptySchema().withHeader());
+        }
+        return objectMapper.readerFor(type);
+    }
+
+    private static String checkTrainee(CreateTraineeRequestDTO request) {
+        if (request.getDateOfBirth() == null) {
+            return null;
+        }
+        try {
+            LocalDate.parse(request.getDateOfBirth());
+            return null;
+        } catch (DateTimeParseException e) {
+            return "Invalid date of birth";
+        }
+    }
+
+    private static Counter importItemCounter(MeterRegistry meterRegistry, String role, BatchItemResultDTO.Status status) {
+        return Counter.builder("user_import_items_total")
+                .tag("role", role)
+                .tag("status", status.name().toLowerCase())
+                .description("Bulk imported users by role and result")
+                .register(meterRegistry);
+    }
+
+    private record ImportJob<T>(String role,
+                                ObjectReader reader,
+                                Function<T, String> check,
+                                BiFunction<List<T>, List<String>, List<String>> persist,
+                                Counter createdCounter,
+                                Counter failedCounter) {
+    }
+}
@@ -9,9 +9,11 @@ import com.epam.spring.error.exception.LoginAttemptException;
 import com.epam.spring.error.exception.ResourceNotFoundException;
 import com.epam.spring.model.User;
 import com.epam.spring.repository.UserRepository;
+import com.epam.spring.service.auth.CustomUserDetailsService;
 import com.epam.spring.service.auth.JwtService;
 import com.epam.spring.service.auth.LoginAttemptService;
 import com.epam.spring.service.auth.MyUserPrincipal;
+import com.epam.spring.service.auth.RateLimiterService;
 import com.epam.spring.service.auth.TokenService;
 import com.epam.spring.util.TransactionContext;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,13 +31,16 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String LOGIN_ROUTE = "login";
+
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final LoginAttemptService loginAttemptService;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
     private final TokenService tokenService;
+    private final RateLimiterService rateLimiterService;
 
     public UserCredentialsResponseDTO changeCredentials(CredentialChangeRequestDTO credentialChangeRequest) {
         String username = credentialChangeRequest.getUsername();
@@ -44,10 +48,11 @@ public class UserService {
         log.info("Transaction ID: {}, Changing credentials for user: {}",
                 transactionId, username);
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, credentialChangeRequest.getOldPassword()));
-        MyUserPrincipal userPrincipal = (MyUserPrincipal) userDetailsService.loadUserByUsername(username);
-        User user = userPrincipal.getUser();
+        User user = findUserOrThrowException(username);
         user.setPassword(passwordEncoder.encode(credentialChangeRequest.getNewPassword()));
         userRepository.save(user);
+        userDetailsService.evictUser(username);
+        tokenService.revokeAllTokens(username);
         log.info("Transaction ID: {}, Successfully changed credentials for user: {}",
                 transactionId, username);
         return new UserCredentialsResponseDTO(user.getUsername(), user.getPassword());
@@ -55,15 +60,16 @@ public class UserService {
 
     public JwtAuthenticationResponse login(UserCredentialsRequestDTO request) {
         String username = request.getUsername();
+        rateLimiterService.checkUsername(LOGIN_ROUTE, username);
         if (loginAttemptService.isBlocked(username)) {
             throw new LoginAttemptException();
         }
         try {
             authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, request.getPassword()));
-            MyUserPrincipal userPrincipal = (MyUserPrincipal) userDetailsService.loadUserByUsername(username);
             loginAttemptService.resetAttempts(username);
-            String jwtToken = jwtService.generateToken(userPrincipal);
-            tokenService.updateUserToken(username, jwtToken);
+            tokenService.revokeAllTokens(username);
+            User user = findUserOrThrowException(username);
+            String jwtToken = jwtService.generateToken(new MyUserPrincipal(user));
             return new JwtAuthenticationResponse(jwtToken);
         } catch (BadCredentialsException ex) {
             loginAttemptService.loginFailed(username);
@@ -75,6 +81,12 @@ public class UserService {
         User user = findUserOrThrowException(username);
         user.setActive(!user.isActive());
         userRepository.save(user);
+        userDetailsService.evictUser(username);
+        if (user.isActive()) {
+            tokenService.markUserStateChanged(username);
+        } else {
+            tokenService.revokeAllTokens(username);
+        }
     }
 
     private User findUserOrThrowException(String username) {
@@ -0,0 +1,234 @@
+package com.epam.spring.service.impl;
+
+import com.epam.spring.error.exception.UniqueConstraintException;
+import com.epam.spring.util.TransactionContext;
+import com.epam.spring.util.UsernameGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Hands out unique usernames from an in-memory per-base-name serial counter. The counter for a base name is warmed
+ * from the database on first use; afterwards reservations need no existence probe. A serial reserved inside a
+ * transaction that rolls back is released and handed out again.
+ */
+@Slf4j
+@Service
+public class UsernameReservationService {
+
+    private final UsernameGenerator usernameGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final long idleTimeoutMillis;
+    private final int maxAttempts;
+    private final Map<String, ReservationState> states = new ConcurrentHashMap<>();
+
+    private final Counter reservedCounter;
+    private final Counter releasedCounter;
+    private final Counter retriedCounter;
+
+    public UsernameReservationService(UsernameGenerator usernameGenerator,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${username.reservation.idle-timeout}") long idleTimeoutMillis,
+                                      @Value("${username.reservation.max-attempts}") int maxAttempts) {
+        this.usernameGenerator = usernameGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("username_reservation_tracked_bases", states, Map::size)
+                .description("Number of base usernames with an in-memory serial counter")
+                .register(meterRegistry);
+        this.reservedCounter = Counter.builder("username_reservations_total")
+                .description("Usernames handed out by the reservation index")
+                .register(meterRegistry);
+        this.releasedCounter = Counter.builder("username_reservations_released_total")
+                .description("Reserved usernames released because their transaction rolled back")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("username_reservation_retries_total")
+                .description("Inserts retried because another node took the reserved username first")
+                .register(meterRegistry);
+    }
+
+    public String reserve(String firstName, String lastName) {
+        String baseUsername = usernameGenerator.baseUsername(firstName, lastName);
+        int serial = take(baseUsername, Map.of());
+        reservedCounter.increment();
+        reconcileOnCompletion(baseUsername, serial);
+        return usernameGenerator.toUsername(baseUsername, serial);
+    }
+
+    /**
+     * Reserves a username and inserts the user with it in its own transaction. If the insert loses the unique
+     * constraint to a username this index did not know about, the counter is re-read from the database and the
+     * reservation and insert are repeated in a fresh transaction, up to {@code username.reservation.max-attempts}
+     * times. When called inside an existing transaction the failed flush has already marked that transaction
+     * rollback-only, so only one attempt is made.
+     */
+    public <T> T reserveAndInsert(String firstName, String lastName, Function<String, T> insert) {
+        String transactionId = TransactionContext.getTransactionId();
+        int attempts = TransactionSynchronizationManager.isActualTransactionActive() ? 1 : maxAttempts;
+        for (int attempt = 1; ; attempt++) {
+            AtomicReference<String> username = new AtomicReference<>();
+            try {
+                return transactionTemplate.execute(status -> {
+                    username.set(reserve(firstName, lastName));
+                    return insert.apply(username.get());
+                });
+            } catch (DataIntegrityViolationException ex) {
+                log.warn("Transaction ID: {}, Username: {} was taken concurrently, attempt {} of {}",
+                        transactionId, username.get(), attempt, attempts);
+                invalidate(firstName, lastName);
+                if (attempt >= attempts) {
+                    throw new UniqueConstraintException(username.get());
+                }
+                retriedCounter.increment();
+            }
+        }
+    }
+
+    /**
+     * Reserves one username per user, in order. Base names without an in-memory counter are warmed together with a
+     * single query instead of one query each.
+     */
+    public <T> List<String> reserveAll(List<T> users, Function<T, String> firstName, Function<T, String> lastName) {
+        List<String> baseUsernames = users.stream()
+                .map(user -> usernameGenerator.baseUsername(firstName.apply(user), lastName.apply(user)))
+                .toList();
+        Set<String> coldBases = new HashSet<>(baseUsernames);
+        coldBases.removeAll(states.keySet());
+        Map<String, List<Integer>> takenSerials = coldBases.isEmpty()
+                ? new HashMap<>()
+                : usernameGenerator.findTakenSerials(coldBases);
+
+        List<String> usernames = new ArrayList<>(baseUsernames.size());
+        for (String baseUsername : baseUsernames) {
+            int serial = take(baseUsername, takenSerials);
+            reconcileOnCompletion(baseUsername, serial);
+            usernames.add(usernameGenerator.toUsername(baseUsername, serial));
+        }
+        reservedCounter.increment(usernames.size());
+        return usernames;
+    }
+
+    /**
+     * Drops the counter for a base name so that it is re-read from the database, e.g. after another node took a
+     * username this index did not know about.
+     */
+    public void invalidate(String firstName, String lastName) {
+        states.remove(usernameGenerator.baseUsername(firstName, lastName));
+    }
+
+    @Scheduled(fixedDelayString = "${username.reservation.purge-interval}")
+    public void purgeIdleBases() {
+        long idleSince = System.currentTimeMillis() - idleTimeoutMillis;
+        states.keySet().forEach(baseUsername ->
+                states.computeIfPresent(baseUsername, (key, state) -> state.isIdleSince(idleSince) ? null : state));
+    }
+
+    /**
+     * Takes a serial from the counter of the given base name, warming a missing counter first. The taken serials are
+     * read outside the map so that no bin lock is held during the query; a preloaded list is used at most once, and a
+     * counter installed concurrently by another caller wins.
+     */
+    private int take(String baseUsername, Map<String, List<Integer>> preloadedSerials) {
+        AtomicInteger reservedSerial = new AtomicInteger();
+        while (states.computeIfPresent(baseUsername, (key, state) -> {
+            reservedSerial.set(state.take());
+            return state;
+        }) == null) {
+            List<Integer> takenSerials = preloadedSerials.containsKey(baseUsername)
+                    ? preloadedSerials.remove(baseUsername)
+                    : usernameGenerator.findTakenSerials(baseUsername);
+            states.putIfAbsent(baseUsername, warmUp(takenSerials));
+        }
+        return reservedSerial.get();
+    }
+
+    private ReservationState warmUp(List<Integer> takenSerials) {
+        int maxSerial = takenSerials.stream().mapToInt(Integer::intValue).max().orElse(UsernameGenerator.BASE_SERIAL);
+        ReservationState state = new ReservationState(maxSerial + 1);
+        if (!takenSerials.contains(UsernameGenerator.BASE_SERIAL)) {
+            state.freeSerials.add(UsernameGenerator.BASE_SERIAL);
+        }
+        return state;
+    }
+
+    private void reconcileOnCompletion(String baseUsername, int serial) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(baseUsername, serial, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(baseUsername, serial, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void complete(String baseUsername, int serial, boolean committed) {
+        states.computeIfPresent(baseUsername, (key, state) -> {
+            state.complete(serial, committed);
+            return state;
+        });
+        if (!committed) {
+            releasedCounter.increment();
+        }
+    }
+
+    /**
+     * Guarded by the {@link ConcurrentHashMap} bin lock: only mutated inside {@code compute}/{@code computeIfPresent}.
+     */
+    private static class ReservationState {
+
+        private final NavigableSet<Integer> freeSerials = new TreeSet<>();
+        private int nextSerial;
+        private int pendingReservations;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        ReservationState(int nextSerial) {
+            this.nextSerial = nextSerial;
+        }
+
+        int take() {
+            Integer released = freeSerials.pollFirst();
+            pendingReservations++;
+            lastUsedAt = System.currentTimeMillis();
+            return released != null ? released : nextSerial++;
+        }
+
+        void complete(int serial, boolean committed) {
+            pendingReservations--;
+            if (!committed) {
+                freeSerials.add(serial);
+            }
+        }
+
+        boolean isIdleSince(long timestamp) {
+            return pendingReservations == 0 && lastUsedAt < timestamp;
+        }
+    }
+}
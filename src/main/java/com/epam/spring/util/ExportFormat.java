@@ -0,0 +1,47 @@
+package com.epam.spring.util;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.List;
+
+/**
+ * Output format of a streamed export, negotiated from the {@code Accept} header. NDJSON is the default.
+ */
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static ExportFormat fromAccept(String accept) {
+        if (accept == null) {
+            return NDJSON;
+        }
+        List<MediaType> acceptedTypes = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(acceptedTypes);
+        for (MediaType acceptedType : acceptedTypes) {
+            if (CSV.mediaType.isCompatibleWith(acceptedType) && !acceptedType.isWildcardType()) {
+                return CSV;
+            }
+            if (NDJSON.mediaType.isCompatibleWith(acceptedType)) {
+                return NDJSON;
+            }
+        }
+        return NDJSON;
+    }
+}
@@ -1,95 +1,150 @@
 package com.epam.spring.util;
 
-import com.epam.spring.model.Training;
-import org.hibernate.Session;
-import org.hibernate.query.Query;
+import com.epam.spring.repository.projection.TrainingExportRow;
+import com.epam.spring.repository.projection.TrainingHistoryRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Builds training history queries that contain only the predicates for the filters actually supplied. Each filter
+ * combination maps to one stable HQL string, built once and cached, so Hibernate's query plan cache and the
+ * database's prepared statement cache are hit for repeated searches of the same shape. Name filters are matched
+ * according to the configured {@link SearchMode}.
+ */
 public class QueryBuilder {
 
-    public static final String FIND_TRAINER_TRAININGS_LIST_BASE_QUERY = """
-            SELECT t FROM Training t
-                JOIN FETCH t.trainer trainer
-                JOIN FETCH t.trainee trainee
-                JOIN FETCH t.trainingType trainingType
-            WHERE trainer.user.username = :trainerUsername
+    private static final String TRAINING_HISTORY_SELECT = """
+            SELECT new com.epam.spring.repository.projection.TrainingHistoryRow(
+                t.id, t.name, t.date, t.duration, type.id, type.trainingTypeName, traineeUser.username)
             """;
-    public static final String FIND_TRAINEE_TRAININGS_LIST_BASE_QUERY = """
-            SELECT t FROM Training t
-                JOIN FETCH t.trainer trainer
-                JOIN FETCH t.trainee trainee
-                JOIN FETCH t.trainingType trainingType
-            WHERE trainee.user.username = :traineeUsername
+    private static final String TRAINING_EXPORT_SELECT = """
+            SELECT new com.epam.spring.repository.projection.TrainingExportRow(
+                t.id, t.name, t.date, t.duration, type.trainingTypeName, traineeUser.username, trainerUser.username)
             """;
+    private static final String TRAINING_HISTORY_FROM = """
+            FROM Training t
+            JOIN t.trainingType type
+            JOIN t.trainee trainee
+            JOIN trainee.user traineeUser
+            JOIN t.trainer trainer
+            JOIN trainer.user trainerUser
+            """;
+    private static final String TRAINING_HISTORY_ORDER = "ORDER BY t.date DESC, t.id DESC";
 
-    public static Query<Training> buildFindTraineeTrainingsQuery(Session session,
-                                                                 String traineeUsername,
-                                                                 LocalDate fromDate,
-                                                                 LocalDate toDate,
-                                                                 String trainerName,
-                                                                 String trainingTypeName) {
-        StringBuilder baseHQL = new StringBuilder(FIND_TRAINEE_TRAININGS_LIST_BASE_QUERY);
-        StringBuilder hql = buildHQL(baseHQL, fromDate, toDate, trainerName, trainingTypeName);
+    private final Map<QueryShape, String> queryCache = new ConcurrentHashMap<>();
+    private final SearchMode searchMode;
 
-        Query<Training> query = session.createQuery(hql.toString(), Training.class);
+    public QueryBuilder(SearchMode searchMode) {
+        this.searchMode = searchMode;
+    }
 
-        query.setParameter("traineeUsername", traineeUsername);
-        if (fromDate != null) {
-            query.setParameter("fromDate", fromDate);
-        }
-        if (toDate != null) {
-            query.setParameter("toDate", toDate);
-        }
-        if (trainerName != null) {
-            query.setParameter("trainerName", "%" + trainerName + "%");
-        }
-        if (trainingTypeName != null) {
-            query.setParameter("trainingTypeName", "%" + trainingTypeName + "%");
+    public enum HistoryOwner {
+        TRAINEE("traineeUser", "trainerUser"),
+        TRAINER("trainerUser", "traineeUser");
+
+        private final String ownerAlias;
+        private final String counterpartAlias;
+
+        HistoryOwner(String ownerAlias, String counterpartAlias) {
+            this.ownerAlias = ownerAlias;
+            this.counterpartAlias = counterpartAlias;
         }
-        return query;
     }
 
-    public static Query<Training> buildFindTrainerTrainings(Session session,
-                                                            String trainerUsername,
-                                                            LocalDate fromDate,
-                                                            LocalDate toDate,
-                                                            String traineeName) {
-        StringBuilder baseHQL = new StringBuilder(FIND_TRAINER_TRAININGS_LIST_BASE_QUERY);
-        StringBuilder hql = buildHQL(baseHQL, fromDate, toDate, traineeName, null);
+    public TypedQuery<TrainingHistoryRow> buildTrainingHistoryQuery(EntityManager entityManager,
+                                                                   HistoryOwner owner,
+                                                                   String username,
+                                                                   LocalDate fromDate,
+                                                                   LocalDate toDate,
+                                                                   String counterpartUsername,
+                                                                   String trainingTypeName,
+                                                                   LocalDate cursorDate,
+                                                                   Long cursorId) {
+        QueryShape shape = new QueryShape(false, owner, fromDate != null, toDate != null,
+                counterpartUsername != null, trainingTypeName != null, cursorDate != null);
+        String hql = queryCache.computeIfAbsent(shape, QueryBuilder::buildHQL);
+        return bindParameters(entityManager.createQuery(hql, TrainingHistoryRow.class), shape,
+                username, fromDate, toDate, counterpartUsername, trainingTypeName, cursorDate, cursorId);
+    }
 
-        Query<Training> query = session.createQuery(hql.toString(), Training.class);
+    /**
+     * Same filters and ordering as {@link #buildTrainingHistoryQuery}, without a cursor, selecting the flat row used
+     * for exports.
+     */
+    public TypedQuery<TrainingExportRow> buildTrainingExportQuery(EntityManager entityManager,
+                                                                 HistoryOwner owner,
+                                                                 String username,
+                                                                 LocalDate fromDate,
+                                                                 LocalDate toDate,
+                                                                 String counterpartUsername,
+                                                                 String trainingTypeName) {
+        QueryShape shape = new QueryShape(true, owner, fromDate != null, toDate != null,
+                counterpartUsername != null, trainingTypeName != null, false);
+        String hql = queryCache.computeIfAbsent(shape, QueryBuilder::buildHQL);
+        return bindParameters(entityManager.createQuery(hql, TrainingExportRow.class), shape,
+                username, fromDate, toDate, counterpartUsername, trainingTypeName, null, null);
+    }
 
-        query.setParameter("trainerUsername", trainerUsername);
-        if (fromDate != null) {
+    private <T> TypedQuery<T> bindParameters(TypedQuery<T> query,
+                                             QueryShape shape,
+                                             String username,
+                                             LocalDate fromDate,
+                                             LocalDate toDate,
+                                             String counterpartUsername,
+                                             String trainingTypeName,
+                                             LocalDate cursorDate,
+                                             Long cursorId) {
+        query.setParameter("username", username);
+        if (shape.hasFromDate()) {
             query.setParameter("fromDate", fromDate);
         }
-        if (toDate != null) {
+        if (shape.hasToDate()) {
             query.setParameter("toDate", toDate);
         }
-        if (traineeName != null) {
-            query.setParameter("traineeName", "%" + traineeName + "%");
+        if (shape.hasCounterpartUsername()) {
+            query.setParameter("counterpartUsername", searchMode.toLikePattern(counterpartUsername));
+        }
+        if (shape.hasTrainingTypeName()) {
+            query.setParameter("trainingTypeName", searchMode.toLikePattern(trainingTypeName));
+        }
+        if (shape.hasCursor()) {
+            query.setParameter("cursorDate", cursorDate);
+            query.setParameter("cursorId", cursorId);
         }
         return query;
     }
 
-    private static StringBuilder buildHQL(StringBuilder hql,
-                                          LocalDate fromDate,
-                                          LocalDate toDate,
-                                          String secondaryUsername,
-                                          String trainingTypeName) {
-        if (fromDate != null) {
+    private static String buildHQL(QueryShape shape) {
+        StringBuilder hql = new StringBuilder(shape.export() ? TRAINING_EXPORT_SELECT : TRAINING_HISTORY_SELECT)
+                .append(TRAINING_HISTORY_FROM)
+                .append("WHERE ").append(shape.owner().ownerAlias).append(".username = :username ");
+        if (shape.hasFromDate()) {
             hql.append("AND t.date >= :fromDate ");
         }
-        if (toDate != null) {
+        if (shape.hasToDate()) {
             hql.append("AND t.date <= :toDate ");
         }
-        if (secondaryUsername != null) {
-            hql.append("AND trainer.user.username LIKE :trainerName ");
+        if (shape.hasCounterpartUsername()) {
+            hql.append("AND ").append(shape.owner().counterpartAlias).append(".username LIKE :counterpartUsername ESCAPE '\\' ");
         }
-        if (trainingTypeName != null) {
-            hql.append("AND trainingType.trainingTypeName LIKE :trainingTypeName ");
+        if (shape.hasTrainingTypeName()) {
+            hql.append("AND type.trainingTypeName LIKE :trainingTypeName ESCAPE '\\' ");
         }
-        return hql;
+        if (shape.hasCursor()) {
+            hql.append("AND (t.date < :cursorDate OR (t.date = :cursorDate AND t.id < :cursorId)) ");
+        }
+        return hql.append(TRAINING_HISTORY_ORDER).toString();
     }
+
+    private record QueryShape(boolean export,
+                              HistoryOwner owner,
+                              boolean hasFromDate,
+                              boolean hasToDate,
+                              boolean hasCounterpartUsername,
+                              boolean hasTrainingTypeName,
+                              boolean hasCursor) {}
 }
@@ -0,0 +1,33 @@
+package com.epam.spring.util;
+
+/**
+ * How partial name filters are turned into {@code LIKE} patterns. {@link #CONTAINS} relies on the PostgreSQL
+ * {@code pg_trgm} GIN indexes; {@link #PREFIX} only needs an ordinary B-tree index and is the fallback for H2.
+ */
+public enum SearchMode {
+    CONTAINS,
+    PREFIX;
+
+    private static final char LIKE_ESCAPE = '\\';
+    /** Trigram indexes cannot narrow a search for fewer characters than a single trigram. */
+    private static final int TRIGRAM_MIN_LENGTH = 3;
+
+    public String toLikePattern(String value) {
+        String escaped = escapeLike(value);
+        if (this == CONTAINS && value.length() >= TRIGRAM_MIN_LENGTH) {
+            return "%" + escaped + "%";
+        }
+        return escaped + "%";
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
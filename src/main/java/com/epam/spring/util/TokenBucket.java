@@ -0,0 +1,45 @@
+package com.epam.spring.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket. Tokens refill continuously at {@code refillPerSecond} up to {@code capacity}.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+    }
+
+    public boolean tryConsume() {
+        while (true) {
+            State current = state.get();
+            long now = System.nanoTime();
+            double available = Math.min(capacity, current.tokens() + (now - current.updatedAt()) * refillPerNano);
+            if (available < 1) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(available - 1, now))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return seconds until the next token becomes available, at least one
+     */
+    public long secondsUntilRefill() {
+        State current = state.get();
+        double available = Math.min(capacity, current.tokens() + (System.nanoTime() - current.updatedAt()) * refillPerNano);
+        double missingNanos = (1 - available) / refillPerNano;
+        return Math.max(1, (long) Math.ceil(missingNanos / 1_000_000_000d));
+    }
+
+    private record State(double tokens, long updatedAt) {}
+}
@@ -4,19 +4,75 @@ import com.epam.spring.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Component
 @RequiredArgsConstructor
 public class UsernameGenerator {
 
     public static final String DOT_SIGN = ".";
+    public static final int BASE_SERIAL = 0;
+    private static final int MAX_SERIAL_DIGITS = 9;
     private final UserRepository userRepository;
 
     public String generateUniqueUsername(String firstName, String lastName) {
-        String baseUsername = firstName + DOT_SIGN + lastName;
-        int serial = 1;
-        while (userRepository.findByUsername(baseUsername).isPresent()) {
-            baseUsername = baseUsername + DOT_SIGN + serial++;
+        String baseUsername = baseUsername(firstName, lastName);
+        List<Integer> takenSerials = findTakenSerials(baseUsername);
+        if (!takenSerials.contains(BASE_SERIAL)) {
+            return baseUsername;
+        }
+        int maxSerial = takenSerials.stream().mapToInt(Integer::intValue).max().orElse(BASE_SERIAL);
+        return toUsername(baseUsername, maxSerial + 1);
+    }
+
+    public String baseUsername(String firstName, String lastName) {
+        return firstName + DOT_SIGN + lastName;
+    }
+
+    public String toUsername(String baseUsername, int serial) {
+        return serial == BASE_SERIAL ? baseUsername : baseUsername + DOT_SIGN + serial;
+    }
+
+    /**
+     * Loads, with a single query, the serials already used for a base username: {@link #BASE_SERIAL} for the base
+     * itself and {@code n} for {@code base.n}.
+     */
+    public List<Integer> findTakenSerials(String baseUsername) {
+        String serialPrefix = baseUsername + DOT_SIGN;
+        return userRepository.findUsernamesByBase(baseUsername, SearchMode.PREFIX.toLikePattern(serialPrefix)).stream()
+                .map(username -> username.equals(baseUsername) ? BASE_SERIAL : parseSerial(username.substring(serialPrefix.length())))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Bulk variant of {@link #findTakenSerials(String)}: loads the serials of every given base with a single query.
+     */
+    public Map<String, List<Integer>> findTakenSerials(Collection<String> baseUsernames) {
+        Map<String, List<Integer>> takenSerials = new HashMap<>();
+        baseUsernames.forEach(baseUsername -> takenSerials.put(baseUsername, new ArrayList<>()));
+        for (String username : userRepository.findUsernamesByBases(baseUsernames)) {
+            List<Integer> serials = takenSerials.get(username);
+            if (serials != null) {
+                serials.add(BASE_SERIAL);
+            }
+            int separator = username.lastIndexOf(DOT_SIGN);
+            serials = separator < 0 ? null : takenSerials.get(username.substring(0, separator));
+            Integer serial = serials == null ? null : parseSerial(username.substring(separator + 1));
+            if (serial != null) {
+                serials.add(serial);
+            }
         }
-        return baseUsername;
+        return takenSerials;
+    }
+
+    private static Integer parseSerial(String suffix) {
+        boolean isSerial = !suffix.isEmpty() && suffix.length() <= MAX_SERIAL_DIGITS && suffix.chars().allMatch(Character::isDigit);
+        return isSerial ? Integer.valueOf(suffix) : null;
     }
 }
@@ -0,0 +1,59 @@
+CREATE TABLE users (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    username      VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    is_active     BOOLEAN      NOT NULL,
+    token_version INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE training_types (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    training_type_name VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_training_types_name UNIQUE (training_type_name)
+);
+
+CREATE TABLE trainees (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    date_of_birth DATE,
+    address       VARCHAR(255),
+    user_id       BIGINT,
+    CONSTRAINT uk_trainees_user UNIQUE (user_id),
+    CONSTRAINT fk_trainees_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE trainers (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    training_type_id BIGINT NOT NULL,
+    user_id          BIGINT,
+    CONSTRAINT uk_trainers_user UNIQUE (user_id),
+    CONSTRAINT fk_trainers_training_type FOREIGN KEY (training_type_id) REFERENCES training_types (id),
+    CONSTRAINT fk_trainers_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE trainings (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    trainee_id       BIGINT       NOT NULL,
+    trainer_id       BIGINT       NOT NULL,
+    name             VARCHAR(255) NOT NULL,
+    training_type_id BIGINT       NOT NULL,
+    date             DATE         NOT NULL,
+    duration         INTEGER      NOT NULL,
+    CONSTRAINT uk_trainings_trainee_trainer UNIQUE (trainee_id, trainer_id),
+    CONSTRAINT fk_trainings_trainee FOREIGN KEY (trainee_id) REFERENCES trainees (id),
+    CONSTRAINT fk_trainings_trainer FOREIGN KEY (trainer_id) REFERENCES trainers (id),
+    CONSTRAINT fk_trainings_training_type FOREIGN KEY (training_type_id) REFERENCES training_types (id)
+);
+
+CREATE TABLE revoked_tokens (
+    token_hash VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+INSERT INTO training_types (training_type_name) VALUES ('Yoga');
+INSERT INTO training_types (training_type_name) VALUES ('Cardio');
+INSERT INTO training_types (training_type_name) VALUES ('Strength');
@@ -0,0 +1,7 @@
+-- Training history: filter by owner, keyset-paginate by (date DESC, id DESC).
+CREATE INDEX idx_trainings_trainer_date ON trainings (trainer_id, date, id);
+CREATE INDEX idx_trainings_trainee_date ON trainings (trainee_id, date, id);
+CREATE INDEX idx_trainings_training_type ON trainings (training_type_id);
+
+-- Trainers by specialization and the foreign key checks on training type deletes.
+CREATE INDEX idx_trainers_training_type ON trainers (training_type_id);
@@ -0,0 +1,3 @@
+-- Shared id sequence for all entities. Hibernate's pooled optimizer hands out INCREMENT BY ids per
+-- call, so the increment must match the allocationSize on BaseEntity.
+CREATE SEQUENCE gym_id_seq START WITH 101 INCREMENT BY 50;
@@ -0,0 +1,8 @@
+-- Entity ids now come only from gym_id_seq. Without the identity defaults, an insert that omits the id fails
+-- instead of silently taking a value that collides with a block handed out by the pooled sequence.
+-- revoked_tokens is keyed by token_hash and has no identity column.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE training_types ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE trainees ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE trainers ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE trainings ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,2 @@
+-- H2 has no trigram indexes; name filters run in search.mode=prefix, which the unique
+-- B-tree indexes on users.username and training_types.training_type_name already serve.
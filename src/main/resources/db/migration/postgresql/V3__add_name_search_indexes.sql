@@ -0,0 +1,8 @@
+-- Substring name filters (search.mode=contains) are served by trigram GIN indexes.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_users_username_trgm ON users USING gin (username gin_trgm_ops);
+CREATE INDEX idx_training_types_name_trgm ON training_types USING gin (training_type_name gin_trgm_ops);
+
+-- Prefix filters (search.mode=prefix) need pattern ops to use a B-tree under a non-C collation.
+CREATE INDEX idx_users_username_pattern ON users (username varchar_pattern_ops);
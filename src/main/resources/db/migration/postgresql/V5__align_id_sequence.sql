@@ -0,0 +1,8 @@
+-- Rows created before V4 took their ids from the identity columns; start the pooled sequence above them.
+SELECT setval('gym_id_seq', GREATEST(
+        101,
+        (SELECT COALESCE(MAX(id), 0) FROM users),
+        (SELECT COALESCE(MAX(id), 0) FROM trainees),
+        (SELECT COALESCE(MAX(id), 0) FROM trainers),
+        (SELECT COALESCE(MAX(id), 0) FROM trainings),
+        (SELECT COALESCE(MAX(id), 0) FROM training_types)));
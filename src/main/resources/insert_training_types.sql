@@ -1,3 +0,0 @@
-INSERT INTO training_types (training_type_name) VALUES ('Yoga');
-INSERT INTO training_types (training_type_name) VALUES ('Cardio');
-INSERT INTO training_types (training_type_name) VALUES ('Strength');
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.epam.spring.config;
+
+import com.epam.spring.filter.RateLimitInterceptor;
+import com.epam.spring.logging.LoggingInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class WebConfigTest {
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final LoggingInterceptor loggingInterceptor = mock(LoggingInterceptor.class);
+    private final RateLimitInterceptor rateLimitInterceptor = mock(RateLimitInterceptor.class);
+
+    @Test
+    public void testRateLimitInterceptorSkippedWithoutRoutes() {
+        List<Object> interceptors = registerInterceptors(new RateLimitProperties());
+
+        assertEquals(1, interceptors.size());
+        assertSame(loggingInterceptor, interceptors.get(0));
+    }
+
+    @Test
+    public void testRateLimitInterceptorMappedToConfiguredRoutesOnly() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/api/v1/users/login");
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put("login", route);
+
+        List<Object> interceptors = registerInterceptors(properties);
+
+        assertEquals(2, interceptors.size());
+        MappedInterceptor mapped = (MappedInterceptor) interceptors.get(1);
+        assertSame(rateLimitInterceptor, mapped.getInterceptor());
+        assertTrue(mapped.matches("/api/v1/users/login", PATH_MATCHER));
+        assertFalse(mapped.matches("/api/v1/trainees", PATH_MATCHER));
+    }
+
+    private List<Object> registerInterceptors(RateLimitProperties properties) {
+        InterceptorRegistry registry = new InterceptorRegistry();
+        new WebConfig(loggingInterceptor, rateLimitInterceptor, properties).addInterceptors(registry);
+        return ReflectionTestUtils.invokeMethod(registry, "getInterceptors");
+    }
+}
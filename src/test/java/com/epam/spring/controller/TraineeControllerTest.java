@@ -9,11 +9,18 @@ import com.epam.spring.dto.response.TrainingTypeDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainee.FetchTraineeResponseDTO;
 import com.epam.spring.dto.response.trainee.UpdateTraineeResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerPageDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
+import com.epam.spring.dto.response.training.FetchUserTrainingsPageDTO;
 import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
+import com.epam.spring.error.exception.ResourceNotFoundException;
+import com.epam.spring.error.hander.GlobalExceptionHandler;
 import com.epam.spring.service.impl.TraineeService;
 import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingExporter;
 import com.epam.spring.service.impl.TrainingService;
+import com.epam.spring.service.impl.UserImportProcessor;
+import com.epam.spring.util.ExportFormat;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,22 +28,33 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +65,7 @@ class TraineeControllerTest {
     private TraineeService traineeService;
     private TrainerService trainerService;
     private TrainingService trainingService;
+    private TrainingExporter trainingExporter;
 
     @Captor
     private ArgumentCaptor<CreateTraineeRequestDTO> createTraineeCaptor;
@@ -58,8 +77,9 @@ class TraineeControllerTest {
         traineeService = mock(TraineeService.class);
         trainerService = mock(TrainerService.class);
         trainingService = mock(TrainingService.class);
+        trainingExporter = mock(TrainingExporter.class);
         objectMapper = new ObjectMapper();
-        TraineeController trainerController = new TraineeController(traineeService, trainerService, trainingService);
+        TraineeController trainerController = new TraineeController(traineeService, trainerService, trainingService, mock(UserImportProcessor.class), trainingExporter);
 
         mockMvc = MockMvcBuilders.standaloneSetup(trainerController).build();
     }
@@ -154,7 +174,8 @@ class TraineeControllerTest {
                 new TrainerResponseDTO("trainer2", "Jane", "Smith", new TrainingTypeDTO(2L, "Yoga"))
         );
 
-        when(trainerService.findUnassignedTrainersByTraineeUsername(username)).thenReturn(expectedResponse);
+        when(trainerService.findUnassignedTrainersByTraineeUsername(username, null, null))
+                .thenReturn(new TrainerPageDTO(expectedResponse, null));
 
         mockMvc.perform(get("/api/v1/trainees/unassigned-trainers/{username}", username)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -172,6 +193,37 @@ class TraineeControllerTest {
                 .andExpect(jsonPath("$[1].specialization.trainingTypeName").value("Yoga"));
     }
 
+    @Test
+    public void testFindUnassignedTrainersForUnknownTraineeReturnsNotFound() throws Exception {
+        TraineeController traineeController = new TraineeController(traineeService, trainerService, trainingService, mock(UserImportProcessor.class), trainingExporter);
+        MockMvc adviceMockMvc = MockMvcBuilders.standaloneSetup(traineeController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        when(trainerService.findUnassignedTrainersByTraineeUsername("missing", null, null))
+                .thenThrow(new ResourceNotFoundException("missing"));
+
+        adviceMockMvc.perform(get("/api/v1/trainees/unassigned-trainers/{username}", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testFindUnassignedTrainersRejectsZeroPageSize() throws Exception {
+        mockMvc.perform(get("/api/v1/trainees/unassigned-trainers/{username}", "traineeUser")
+                        .param("pageSize", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(trainerService, never()).findUnassignedTrainersByTraineeUsername(any(), any(), any());
+    }
+
+    @Test
+    public void testFindUnassignedTrainersRejectsNegativePageSize() throws Exception {
+        mockMvc.perform(get("/api/v1/trainees/unassigned-trainers/{username}", "traineeUser")
+                        .param("pageSize", "-5"))
+                .andExpect(status().isBadRequest());
+
+        verify(trainerService, never()).findUnassignedTrainersByTraineeUsername(any(), any(), any());
+    }
+
     @Test
     public void testGetTraineeTrainings() throws Exception {
         FetchTraineeTrainingsRequestDTO requestDTO = new FetchTraineeTrainingsRequestDTO("traineeUser");
@@ -183,12 +235,14 @@ class TraineeControllerTest {
                         new TrainingTypeDTO(2L, "Yoga"), 45, "trainerUser")
         );
 
-        when(trainingService.findTraineeTrainings(any(FetchTraineeTrainingsRequestDTO.class))).thenReturn(expectedResponse);
+        when(trainingService.findTraineeTrainings(any(FetchTraineeTrainingsRequestDTO.class)))
+                .thenReturn(new FetchUserTrainingsPageDTO(expectedResponse, "next-cursor"));
 
         mockMvc.perform(get("/api/v1/trainees/trainings")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDTO)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(TrainingController.NEXT_CURSOR_HEADER, "next-cursor"))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].trainingName").value("Strength Training"))
                 .andExpect(jsonPath("$[0].trainingDate").value("2025-02-01"))
@@ -237,4 +291,22 @@ class TraineeControllerTest {
                 .andExpect(jsonPath("$[1].specialization.id").value(2L))
                 .andExpect(jsonPath("$[1].specialization.trainingTypeName").value("Yoga"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testExportTraineeTrainingsAsCsv() throws Exception {
+        when(trainingExporter.exportTraineeTrainings(eq("trainee1"), eq(LocalDate.of(2025, 1, 1)), isNull(), eq(ExportFormat.CSV)))
+                .thenReturn(output -> output.write("id\n".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/trainees/trainee1/trainings/export")
+                        .param("fromDate", "2025-01-01")
+                        .accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"trainee1-trainings.csv\""))
+                .andExpect(content().string("id\n"));
+        verify(trainingExporter).applyTimeout(any());
+    }
+}
@@ -5,9 +5,12 @@ import com.epam.spring.dto.request.trainer.UpdateTrainerRequestDTO;
 import com.epam.spring.dto.response.TrainingTypeDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainer.FetchTrainerResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.dto.response.trainer.UpdateTrainerResponseDTO;
 import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingExporter;
 import com.epam.spring.service.impl.TrainingService;
+import com.epam.spring.service.impl.UserImportProcessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +43,7 @@ class TrainerControllerTest {
     private ObjectMapper objectMapper;
     private TrainerService trainerService;
     private TrainingService trainingService;
+    private TrainingExporter trainingExporter;
 
     @Captor
     private ArgumentCaptor<CreateTrainerRequestDTO> createTrainerCaptor;
@@ -49,8 +54,9 @@ class TrainerControllerTest {
     void setup() {
         trainerService = mock(TrainerService.class);
         trainingService = mock(TrainingService.class);
+        trainingExporter = mock(TrainingExporter.class);
         objectMapper = new ObjectMapper();
-        TrainerController trainerController = new TrainerController(trainerService, trainingService);
+        TrainerController trainerController = new TrainerController(trainerService, trainingService, mock(UserImportProcessor.class), trainingExporter);
 
         mockMvc = MockMvcBuilders.standaloneSetup(trainerController).build();
     }
@@ -96,6 +102,20 @@ class TrainerControllerTest {
 
     }
 
+    @Test
+    public void testSearchTrainers() throws Exception {
+        TrainerResponseDTO match = new TrainerResponseDTO("John.Doe", "John", "Doe", new TrainingTypeDTO(1L, "Yoga"));
+
+        when(trainerService.searchTrainers("Jo", 5)).thenReturn(List.of(match));
+
+        mockMvc.perform(get("/api/v1/trainers/search")
+                        .param("q", "Jo")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].username").value("John.Doe"))
+                .andExpect(jsonPath("$[0].specialization.trainingTypeName").value("Yoga"));
+    }
+
     @Test
     public void testUpdateProfile() throws Exception {
         UpdateTrainerRequestDTO request = new UpdateTrainerRequestDTO("trainerUser", "John", "Doe", "1", true);
@@ -1,6 +1,7 @@
 package com.epam.spring.controller;
 
 import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
+import com.epam.spring.service.impl.TrainingBatchProcessor;
 import com.epam.spring.service.impl.TrainingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +14,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +31,7 @@ public class TrainingControllerTest {
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
     private TrainingService trainingService;
+    private TrainingBatchProcessor trainingBatchProcessor;
 
     @Captor
     private ArgumentCaptor<CreateTrainingRequestDTO> trainingCaptor;
@@ -33,7 +40,8 @@ public class TrainingControllerTest {
     void setup() {
         trainingService = mock(TrainingService.class);
         objectMapper = new ObjectMapper();
-        TrainingController trainingController = new TrainingController(trainingService);
+        trainingBatchProcessor = mock(TrainingBatchProcessor.class);
+        TrainingController trainingController = new TrainingController(trainingService, trainingBatchProcessor);
 
         mockMvc = MockMvcBuilders.standaloneSetup(trainingController).build();
     }
@@ -61,4 +69,16 @@ public class TrainingControllerTest {
         assertEquals("2025-01-01", capturedRequest.getTrainingDate());
         assertEquals("2 hours", capturedRequest.getDuration());
     }
+
+    @Test
+    public void testCreateTrainingBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/trainings/batch")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content("{}\n{}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+
+        verify(trainingBatchProcessor).process(any(InputStream.class), any(OutputStream.class));
+    }
 }
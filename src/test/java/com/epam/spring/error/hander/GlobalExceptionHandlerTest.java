@@ -1,9 +1,11 @@
 package com.epam.spring.error.hander;
 
 import com.epam.spring.dto.response.ErrorResponseDTO;
+import com.epam.spring.error.exception.RateLimitExceededException;
 import com.epam.spring.error.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -63,4 +65,21 @@ class GlobalExceptionHandlerTest {
         assertNotNull(response.getBody());
         assertTrue(Objects.requireNonNull(response.getBody()).getDetailsList().contains("This resource already exists in database."));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldHandleRateLimitExceededException() {
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleRateLimitExceeded(new RateLimitExceededException(30));
+
+        assertEquals(response.getStatusCode(), HttpStatus.TOO_MANY_REQUESTS);
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertTrue(Objects.requireNonNull(response.getBody()).getDetailsList().contains("Too many requests. Try again later."));
+    }
+
+    @Test
+    void shouldHandleServiceOverloadedException() {
+        ResponseEntity<ErrorResponseDTO> response = exceptionHandler.handleServiceOverloaded();
+
+        assertEquals(response.getStatusCode(), HttpStatus.SERVICE_UNAVAILABLE);
+        assertNotNull(response.getBody());
+    }
+}
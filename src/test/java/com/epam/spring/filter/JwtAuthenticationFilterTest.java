@@ -0,0 +1,107 @@
+package com.epam.spring.filter;
+
+import com.epam.spring.model.User;
+import com.epam.spring.service.auth.JwtService;
+import com.epam.spring.service.auth.JwtTokenClaims;
+import com.epam.spring.service.auth.MyUserPrincipal;
+import com.epam.spring.service.auth.TokenService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "token";
+    private static final String USERNAME = "John.Doe";
+
+    private final JwtTokenClaims claims = new JwtTokenClaims(USERNAME, new Date(System.currentTimeMillis() + 60_000),
+            new Date(), Map.of(JwtService.VERSION_CLAIM, 0));
+
+    private JwtService jwtService;
+    private TokenService tokenService;
+    private UserDetailsService userDetailsService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = mock(JwtService.class);
+        tokenService = mock(TokenService.class);
+        userDetailsService = mock(UserDetailsService.class);
+        filter = new JwtAuthenticationFilter(jwtService, tokenService, userDetailsService);
+        ReflectionTestUtils.setField(filter, "statelessEnabled", true);
+
+        when(jwtService.validateToken(TOKEN)).thenReturn(Optional.of(claims));
+        when(tokenService.isTokenVersionCurrent(claims)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void testStatelessBranchAuthenticatesFromClaimsWithoutLookup() throws Exception {
+        Authentication authentication = doFilter();
+
+        assertEquals(USERNAME, authentication.getName());
+        assertFalse(authentication.getPrincipal() instanceof MyUserPrincipal);
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    public void testFallsBackToUserLookupAfterStateChange() throws Exception {
+        MyUserPrincipal principal = new MyUserPrincipal(User.builder().username(USERNAME).password("secret").build());
+        when(tokenService.requiresUserLookup(claims)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(principal);
+
+        Authentication authentication = doFilter();
+
+        assertSame(principal, authentication.getPrincipal());
+        verify(jwtService).validateToken(TOKEN);
+    }
+
+    @Test
+    public void testFallbackLeavesDeletedUserUnauthenticated() throws Exception {
+        when(tokenService.requiresUserLookup(claims)).thenReturn(true);
+        when(userDetailsService.loadUserByUsername(USERNAME)).thenThrow(new UsernameNotFoundException(USERNAME));
+
+        assertNull(doFilter());
+    }
+
+    @Test
+    public void testOutdatedTokenVersionIsNotAuthenticated() throws Exception {
+        when(tokenService.isTokenVersionCurrent(claims)).thenReturn(false);
+
+        assertNull(doFilter());
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    private Authentication doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtAuthenticationFilter.AUTH_HEADER_NAME, JwtAuthenticationFilter.BEARER_PREFIX + TOKEN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -23,6 +25,9 @@ class TraineeRepositoryTest {
     @Autowired
     private TraineeRepository traineeRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     private Trainee trainee1;
     private Trainee trainee2;
 
@@ -128,6 +133,21 @@ class TraineeRepositoryTest {
         assertEquals(1, traineeRepository.findAll().size());
     }
 
+    @Test
+    void testFindUsernamesByBasesAcrossQueryGroups() {
+        traineeRepository.save(buildTrainee("Base0", "User"));
+        Trainee serialTrainee = buildTrainee("Base19", "User");
+        serialTrainee.getUser().setUsername("Base19.User.2");
+        traineeRepository.save(serialTrainee);
+        traineeRepository.save(buildTrainee("Base5", "Userx"));
+        List<String> bases = IntStream.range(0, 20).mapToObj(i -> "Base" + i + ".User").toList();
+
+        List<String> usernames = userRepository.findUsernamesByBases(bases);
+
+        assertEquals(Set.of("Base0.User", "Base19.User.2"), Set.copyOf(usernames));
+        assertEquals(2, usernames.size());
+    }
+
     private Trainee buildTrainee(String firstName, String lastName) {
         return Trainee.builder()
                 .user(User.builder()
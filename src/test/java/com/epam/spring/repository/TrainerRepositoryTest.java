@@ -3,10 +3,13 @@ package com.epam.spring.repository;
 import com.epam.spring.model.Trainer;
 import com.epam.spring.model.TrainingType;
 import com.epam.spring.model.User;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import com.epam.spring.util.SearchMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -124,6 +127,31 @@ class TrainerRepositoryTest {
         assertEquals(1, trainerRepository.findAll().size());
     }
 
+    @Test
+    void testSearchByUsernameRanksExactThenPrefixMatches() {
+        trainerRepository.save(trainer1);
+        Trainer longerMatch = buildTrainer("John", "Doe.Junior");
+        longerMatch.setSpecialization(trainer1.getSpecialization());
+        trainerRepository.save(longerMatch);
+        trainerRepository.save(trainer2);
+
+        List<TrainerSummaryRow> rows = trainerRepository.searchByUsername("John.Doe",
+                SearchMode.PREFIX.toLikePattern("John.Doe"), SearchMode.PREFIX.toLikePattern("John.Doe"), Limit.of(10));
+
+        assertEquals(List.of("John.Doe", "John.Doe.Junior"), rows.stream().map(TrainerSummaryRow::username).toList());
+        assertEquals(trainer1.getSpecialization().getTrainingTypeName(), rows.get(0).trainingTypeName());
+    }
+
+    @Test
+    void testSearchByUsernameEscapesWildcards() {
+        trainerRepository.save(trainer1);
+
+        List<TrainerSummaryRow> rows = trainerRepository.searchByUsername("_ohn",
+                SearchMode.CONTAINS.toLikePattern("_ohn"), SearchMode.PREFIX.toLikePattern("_ohn"), Limit.of(10));
+
+        assertTrue(rows.isEmpty());
+    }
+
     private Trainer buildTrainer(String firstName, String lastName) {
         return Trainer.builder()
                 .user(User.builder()
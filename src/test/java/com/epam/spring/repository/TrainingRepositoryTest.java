@@ -5,12 +5,21 @@ import com.epam.spring.model.Trainer;
 import com.epam.spring.model.Training;
 import com.epam.spring.model.TrainingType;
 import com.epam.spring.model.User;
+import com.epam.spring.repository.projection.TraineeProfileRow;
+import com.epam.spring.repository.projection.TraineeSummaryRow;
+import com.epam.spring.repository.projection.TrainerSummaryRow;
+import com.epam.spring.repository.projection.TrainingHistoryRow;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 class TrainingRepositoryTest {
 
     @Autowired
@@ -32,6 +41,8 @@ class TrainingRepositoryTest {
     private Trainee trainee;
     @Autowired
     private TrainingTypeRepository trainingTypeRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @BeforeEach
     void setUp() {
@@ -76,12 +87,12 @@ class TrainingRepositoryTest {
         trainingRepository.save(training1);
         trainingRepository.save(training2);
 
-        List<Training> traineeTrainings = trainingRepository.findTraineeTrainings(
-                "Adam.Simpson", null, null, null, null);
+        List<TrainingHistoryRow> traineeTrainings = trainingRepository.findTraineeTrainings(
+                "Adam.Simpson", null, null, null, null, null, null, Limit.unlimited());
 
         assertEquals(2, traineeTrainings.size());
-        assertEquals(traineeTrainings.get(0).getTrainee().getId(), createdTrainee.getId());
-        assertEquals(traineeTrainings.get(1).getTrainee().getId(), createdTrainee.getId());
+        assertEquals(createdTrainee.getUser().getUsername(), traineeTrainings.get(0).traineeUsername());
+        assertEquals(createdTrainee.getUser().getUsername(), traineeTrainings.get(1).traineeUsername());
     }
 
     @Test
@@ -100,12 +111,151 @@ class TrainingRepositoryTest {
         trainingRepository.save(training1);
         trainingRepository.save(training2);
 
-        List<Training> trainerTrainings = trainingRepository.findTrainerTrainings(
-                "Will.Salas", null, null, null);
+        List<TrainingHistoryRow> trainerTrainings = trainingRepository.findTrainerTrainings(
+                "Will.Salas", null, null, null, null, null, Limit.unlimited());
 
         assertEquals(2, trainerTrainings.size());
-        assertEquals(trainerTrainings.get(0).getTrainer().getId(), createdTrainer.getId());
-        assertEquals(trainerTrainings.get(1).getTrainer().getId(), createdTrainer.getId());
+        assertTrue(trainerTrainings.stream().anyMatch(row -> row.traineeUsername().equals(createdTrainee1.getUser().getUsername())));
+        assertTrue(trainerTrainings.stream().anyMatch(row -> row.traineeUsername().equals(createdTrainee2.getUser().getUsername())));
+    }
+
+    @Test
+    public void testFindTrainerTrainingsFilteredByTraineeUsername() {
+        Trainee createdTrainee1 = traineeRepository.save(trainee);
+        Trainee createdTrainee2 = traineeRepository.save(buildTrainee("Kim", "Young"));
+        Trainer createdTrainer = trainerRepository.save(trainer);
+        trainingRepository.save(buildTraining(createdTrainee1, createdTrainer, createdTrainer.getSpecialization()));
+        trainingRepository.save(buildTraining(createdTrainee2, createdTrainer, createdTrainer.getSpecialization()));
+
+        List<TrainingHistoryRow> trainerTrainings = trainingRepository.findTrainerTrainings(
+                "Will.Salas", LocalDate.now(), null, "Kim", null, null, Limit.unlimited());
+
+        assertEquals(1, trainerTrainings.size());
+        assertEquals("Kim.Young", trainerTrainings.get(0).traineeUsername());
+    }
+
+    @Test
+    public void testFindTraineeTrainingsFilteredByTrainerAndTrainingType() {
+        Trainee createdTrainee = traineeRepository.save(trainee);
+        Trainer createdTrainer = trainerRepository.save(trainer);
+        Trainer trainer2 = buildTrainer("Kim", "Young");
+        trainer2.setSpecialization(trainingTypeRepository.findById(2L).get());
+        Trainer createdTrainer2 = trainerRepository.save(trainer2);
+        trainingRepository.save(buildTraining(createdTrainee, createdTrainer, createdTrainer.getSpecialization()));
+        trainingRepository.save(buildTraining(createdTrainee, createdTrainer2, createdTrainer2.getSpecialization()));
+
+        List<TrainingHistoryRow> byTrainer = trainingRepository.findTraineeTrainings(
+                "Adam.Simpson", null, null, "Kim", null, null, null, Limit.unlimited());
+        List<TrainingHistoryRow> byType = trainingRepository.findTraineeTrainings(
+                "Adam.Simpson", null, LocalDate.now().plusDays(5), null,
+                createdTrainer.getSpecialization().getTrainingTypeName(), null, null, Limit.unlimited());
+
+        assertEquals(1, byTrainer.size());
+        assertEquals(createdTrainer2.getSpecialization().getId(), byTrainer.get(0).trainingTypeId());
+        assertEquals(1, byType.size());
+        assertEquals(createdTrainer.getSpecialization().getId(), byType.get(0).trainingTypeId());
+    }
+
+    @Test
+    public void testFindTraineeTrainingsLoadsHistoryInOneStatement() {
+        Trainee createdTrainee = traineeRepository.save(trainee);
+        for (String lastName : List.of("One", "Two", "Three")) {
+            Trainer otherTrainer = buildTrainer("Trainer", lastName);
+            otherTrainer.setSpecialization(trainingTypeRepository.findById(2L).get());
+            Trainer createdTrainer = trainerRepository.save(otherTrainer);
+            trainingRepository.save(buildTraining(createdTrainee, createdTrainer, createdTrainer.getSpecialization()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TrainingHistoryRow> traineeTrainings = trainingRepository.findTraineeTrainings(
+                "Adam.Simpson", null, null, null, null, null, null, Limit.of(10));
+        traineeTrainings.forEach(row -> assertNotNull(row.trainingTypeName()));
+
+        assertEquals(3, traineeTrainings.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testProfileLinksReturnOneRowPerCounterpart() {
+        Trainee createdTrainee1 = traineeRepository.save(trainee);
+        Trainee createdTrainee2 = traineeRepository.save(buildTrainee("Kim", "Young"));
+        Trainer createdTrainer = trainerRepository.save(trainer);
+        trainingRepository.save(buildTraining(createdTrainee1, createdTrainer, createdTrainer.getSpecialization()));
+        trainingRepository.save(buildTraining(createdTrainee2, createdTrainer, createdTrainer.getSpecialization()));
+
+        List<TraineeSummaryRow> trainees = trainerRepository.findTraineesOfTrainer(createdTrainer.getId());
+        List<TrainerSummaryRow> trainers = traineeRepository.findTrainersOfTrainee(createdTrainee1.getId());
+
+        assertEquals(List.of("Adam.Simpson", "Kim.Young"), trainees.stream().map(TraineeSummaryRow::username).toList());
+        assertEquals(1, trainers.size());
+        assertEquals("Will.Salas", trainers.get(0).username());
+        assertEquals(createdTrainer.getSpecialization().getId(), trainers.get(0).trainingTypeId());
+    }
+
+    @Test
+    public void testTraineeLookupsDoNotScaleWithTrainingCount() {
+        Trainee lightTrainee = traineeRepository.save(buildTrainee("Light", "Trainee"));
+        Trainee heavyTrainee = traineeRepository.save(trainee);
+        for (int i = 0; i < 40; i++) {
+            Trainer otherTrainer = buildTrainer("Trainer", "No" + i);
+            otherTrainer.setSpecialization(trainingTypeRepository.findById(2L).get());
+            Trainer createdTrainer = trainerRepository.save(otherTrainer);
+            if (i == 0) {
+                trainingRepository.save(buildTraining(lightTrainee, createdTrainer, createdTrainer.getSpecialization()));
+            }
+            trainingRepository.save(buildTraining(heavyTrainee, createdTrainer, createdTrainer.getSpecialization()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        long lightStatements = countTraineeLookupStatements(statistics, "Light.Trainee", 1);
+        long heavyStatements = countTraineeLookupStatements(statistics, "Adam.Simpson", 40);
+
+        assertEquals(4, lightStatements);
+        assertEquals(lightStatements, heavyStatements);
+    }
+
+    @Test
+    public void testBulkTraineeAndTrainingInsertsAreBatched() {
+        int trainerCount = 10;
+        int traineeCount = 500;
+        List<Trainer> trainers = new ArrayList<>();
+        for (int i = 0; i < trainerCount; i++) {
+            Trainer bulkTrainer = buildTrainer("Bulk", "Trainer" + i);
+            bulkTrainer.setSpecialization(trainer.getSpecialization());
+            trainers.add(bulkTrainer);
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        trainerRepository.saveAll(trainers);
+        for (int i = 0; i < traineeCount; i++) {
+            Trainee bulkTrainee = traineeRepository.save(buildTrainee("Bulk", "Trainee" + i));
+            Trainer bulkTrainer = trainers.get(i % trainerCount);
+            trainingRepository.save(buildTraining(bulkTrainee, bulkTrainer, bulkTrainer.getSpecialization()));
+        }
+        entityManager.flush();
+
+        long rows = trainerCount * 2L + traineeCount * 3L;
+        assertTrue(statistics.getPrepareStatementCount() < rows / 10);
+    }
+
+    private long countTraineeLookupStatements(Statistics statistics, String username, int expectedTrainers) {
+        statistics.clear();
+
+        assertTrue(traineeRepository.existsByUserUsername(username));
+        assertTrue(traineeRepository.findIdByUsername(username).isPresent());
+        TraineeProfileRow profile = traineeRepository.findProfileByUsername(username).orElseThrow();
+        assertEquals(expectedTrainers, traineeRepository.findTrainersOfTrainee(profile.id()).size());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        return statistics.getPrepareStatementCount();
     }
 
     private Trainer buildTrainer(String firstName, String lastName) {
@@ -0,0 +1,87 @@
+package com.epam.spring.service;
+
+import com.epam.spring.error.exception.ServiceOverloadedException;
+import com.epam.spring.service.auth.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(), 1, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    public void testRejectsWhenPoolAndQueueAreFull() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        awaitQueuedTask();
+
+        assertThrows(ServiceOverloadedException.class, () -> passwordEncoder.encode("third"));
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS).startsWith("hash:"));
+        assertTrue(queued.get(5, TimeUnit.SECONDS).startsWith("hash:"));
+    }
+
+    @Test
+    public void testEncodeAllWaitsForWorkersInsteadOfFillingQueue() throws Exception {
+        CompletableFuture<List<String>> encoded = CompletableFuture.supplyAsync(
+                () -> passwordEncoder.encodeAll(List.of("a", "b", "c", "d")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(TimeoutException.class, () -> encoded.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, meterRegistry.get("password_encoder_queue_size").gauge().value());
+
+        release.countDown();
+        assertEquals(List.of("hash:a", "hash:b", "hash:c", "hash:d"), encoded.get(5, TimeUnit.SECONDS));
+        assertEquals(0, meterRegistry.get("password_encoder_rejected_total").counter().count());
+    }
+
+    private void awaitQueuedTask() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password_encoder_queue_size").gauge().value() == 0) {
+            assertTrue(System.nanoTime() < deadline, "No password hashing task was queued");
+            Thread.onSpinWait();
+        }
+    }
+
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}
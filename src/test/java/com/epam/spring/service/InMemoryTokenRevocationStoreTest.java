@@ -0,0 +1,65 @@
+package com.epam.spring.service;
+
+import com.epam.spring.service.auth.InMemoryTokenRevocationStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTokenRevocationStoreTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryTokenRevocationStore revocationStore;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revocationStore = new InMemoryTokenRevocationStore(meterRegistry);
+    }
+
+    @Test
+    public void testSweepPurgesExpiredAndKeepsLiveTokens() {
+        Instant now = Instant.now();
+        revocationStore.revoke("expired-1", now.minus(2, ChronoUnit.MINUTES));
+        revocationStore.revoke("live", now.plus(1, ChronoUnit.HOURS));
+        revocationStore.revoke("expired-2", now.minus(1, ChronoUnit.MINUTES));
+        assertEquals(3, blacklistSize());
+
+        revocationStore.clearExpiredTokens();
+
+        assertFalse(revocationStore.isRevoked("expired-1"));
+        assertFalse(revocationStore.isRevoked("expired-2"));
+        assertTrue(revocationStore.isRevoked("live"));
+        assertEquals(1, blacklistSize());
+        assertEquals(1, meterRegistry.get("token_blacklist_sweep_duration_seconds").timer().count());
+    }
+
+    @Test
+    public void testRepeatedRevocationKeepsOriginalExpiry() {
+        revocationStore.revoke("token", Instant.now().plus(1, ChronoUnit.HOURS));
+        revocationStore.revoke("token", Instant.now().minus(1, ChronoUnit.MINUTES));
+
+        revocationStore.clearExpiredTokens();
+
+        assertTrue(revocationStore.isRevoked("token"));
+        assertEquals(1, blacklistSize());
+    }
+
+    @Test
+    public void testUnknownTokenIsNotRevoked() {
+        revocationStore.clearExpiredTokens();
+
+        assertFalse(revocationStore.isRevoked("unknown"));
+        assertEquals(0, blacklistSize());
+    }
+
+    private double blacklistSize() {
+        return meterRegistry.get("token_blacklist_size").gauge().value();
+    }
+}
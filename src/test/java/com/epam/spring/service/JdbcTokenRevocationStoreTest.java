@@ -0,0 +1,46 @@
+package com.epam.spring.service;
+
+import com.epam.spring.service.auth.JdbcTokenRevocationStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "token.revocation.store=jdbc")
+class JdbcTokenRevocationStoreTest {
+
+    @Autowired
+    private JdbcTokenRevocationStore revocationStore;
+
+    @Test
+    public void testRevokedTokenVisibleBeforeAndAfterFlush() {
+        String tokenHash = UUID.randomUUID().toString();
+        revocationStore.revoke(tokenHash, Instant.now().plus(1, ChronoUnit.HOURS));
+        assertTrue(revocationStore.isRevoked(tokenHash));
+
+        revocationStore.flushPendingRevocations();
+        revocationStore.syncBloomFilter();
+        assertTrue(revocationStore.isRevoked(tokenHash));
+    }
+
+    @Test
+    public void testUnknownTokenIsNotRevoked() {
+        assertFalse(revocationStore.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    public void testExpiredTokenIsPurged() {
+        String tokenHash = UUID.randomUUID().toString();
+        revocationStore.revoke(tokenHash, Instant.now().minus(1, ChronoUnit.MINUTES));
+        revocationStore.flushPendingRevocations();
+        revocationStore.purgeExpiredTokens();
+        revocationStore.syncBloomFilter();
+        assertFalse(revocationStore.isRevoked(tokenHash));
+    }
+}
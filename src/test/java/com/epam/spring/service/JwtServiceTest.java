@@ -0,0 +1,114 @@
+package com.epam.spring.service;
+
+import com.epam.spring.model.User;
+import com.epam.spring.service.auth.JwtService;
+import com.epam.spring.service.auth.JwtTokenClaims;
+import com.epam.spring.service.auth.MyUserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtServiceTest {
+
+    private static final String SIGNING_KEY = "53A73E5F1C4E0A2D3B5F2D784E6A1B423D6F247D1F6E5C3A596D635A75327855";
+    private static final String OTHER_SIGNING_KEY = "6B1F2E3D4C5B6A798877665544332211AABBCCDDEEFF00112233445566778899";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private MyUserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = createJwtService(SIGNING_KEY, 60000, meterRegistry);
+        principal = new MyUserPrincipal(User.builder()
+                .username("John.Doe")
+                .password("password")
+                .tokenVersion(3)
+                .build());
+    }
+
+    @Test
+    public void testValidTokenIsAcceptedWithItsClaims() {
+        String token = jwtService.generateToken(principal);
+
+        JwtTokenClaims claims = jwtService.validateToken(token).orElseThrow();
+
+        assertEquals("John.Doe", claims.subject());
+        assertEquals(3, claims.customClaims().get(JwtService.VERSION_CLAIM));
+        assertTrue(claims.expiration().after(claims.issuedAt()));
+    }
+
+    @Test
+    public void testSingleParseServesUsernameAndExpiration() {
+        String token = jwtService.generateToken(principal);
+
+        JwtTokenClaims claims = jwtService.validateToken(token).orElseThrow();
+
+        assertEquals(principal.getUsername(), claims.subject());
+        assertTrue(claims.expiration().after(new Date()));
+        assertEquals(1, meterRegistry.get("jwt_verification_duration_seconds").timer().count());
+    }
+
+    @Test
+    public void testSigningKeyAndParserAreBuiltOnceAndReused() {
+        Object signingKey = ReflectionTestUtils.getField(jwtService, "signingKey");
+        Object jwtParser = ReflectionTestUtils.getField(jwtService, "jwtParser");
+
+        for (int i = 0; i < 3; i++) {
+            jwtService.validateToken(jwtService.generateToken(principal)).orElseThrow();
+        }
+
+        assertSame(signingKey, ReflectionTestUtils.getField(jwtService, "signingKey"));
+        assertSame(jwtParser, ReflectionTestUtils.getField(jwtService, "jwtParser"));
+        assertEquals(3, meterRegistry.get("jwt_verification_duration_seconds").timer().count());
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() {
+        String token = jwtService.generateToken(principal);
+        String[] parts = token.split("\\.");
+        String forgedPayload = jwtService.generateToken(new MyUserPrincipal(User.builder()
+                .username("Jane.Doe")
+                .password("password")
+                .build())).split("\\.")[1];
+
+        assertTrue(jwtService.validateToken(parts[0] + "." + forgedPayload + "." + parts[2]).isEmpty());
+        assertEquals(1, meterRegistry.get("jwt_verification_duration_seconds").timer().count());
+    }
+
+    @Test
+    public void testTokenSignedWithAnotherKeyIsRejected() {
+        JwtService otherService = createJwtService(OTHER_SIGNING_KEY, 60000, new SimpleMeterRegistry());
+
+        assertTrue(jwtService.validateToken(otherService.generateToken(principal)).isEmpty());
+    }
+
+    @Test
+    public void testExpiredTokenIsRejected() {
+        JwtService expiringService = createJwtService(SIGNING_KEY, -1000, new SimpleMeterRegistry());
+
+        assertTrue(jwtService.validateToken(expiringService.generateToken(principal)).isEmpty());
+    }
+
+    @Test
+    public void testMalformedTokenIsRejected() {
+        assertTrue(jwtService.validateToken("not-a-token").isEmpty());
+        assertTrue(jwtService.validateToken("").isEmpty());
+    }
+
+    private static JwtService createJwtService(String signingKey, long expirationTime, SimpleMeterRegistry registry) {
+        JwtService service = new JwtService(registry);
+        ReflectionTestUtils.setField(service, "jwtSigningKey", signingKey);
+        ReflectionTestUtils.setField(service, "expirationTime", expirationTime);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
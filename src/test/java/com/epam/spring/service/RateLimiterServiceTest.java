@@ -0,0 +1,85 @@
+package com.epam.spring.service;
+
+import com.epam.spring.config.RateLimitProperties;
+import com.epam.spring.error.exception.RateLimitExceededException;
+import com.epam.spring.service.auth.RateLimiterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterServiceTest {
+
+    private static final String ROUTE = "login";
+
+    private RateLimiterService rateLimiterService;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Limit ipLimit = new RateLimitProperties.Limit();
+        ipLimit.setCapacity(3);
+        ipLimit.setRefillPerMinute(1);
+        RateLimitProperties.Limit usernameLimit = new RateLimitProperties.Limit();
+        usernameLimit.setCapacity(2);
+        usernameLimit.setRefillPerMinute(1);
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/api/v1/users/login");
+        route.setIp(ipLimit);
+        route.setUsername(usernameLimit);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put(ROUTE, route);
+        rateLimiterService = new RateLimiterService(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void testClientIpRejectedAfterCapacityExhausted() {
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> rateLimiterService.checkClientIp(ROUTE, "10.0.0.1"));
+        }
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> rateLimiterService.checkClientIp(ROUTE, "10.0.0.1"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertDoesNotThrow(() -> rateLimiterService.checkClientIp(ROUTE, "10.0.0.2"));
+    }
+
+    @Test
+    public void testUsernameLimitedIndependentlyOfClientIp() {
+        rateLimiterService.checkUsername(ROUTE, "John.Doe");
+        rateLimiterService.checkUsername(ROUTE, "John.Doe");
+
+        assertThrows(RateLimitExceededException.class, () -> rateLimiterService.checkUsername(ROUTE, "John.Doe"));
+        assertDoesNotThrow(() -> rateLimiterService.checkClientIp(ROUTE, "10.0.0.1"));
+    }
+
+    @Test
+    public void testIdleBucketsExpireAfterLongestRefillPeriod() {
+        assertEquals(Duration.ofMinutes(3), rateLimiterService.getBucketIdleExpiry());
+    }
+
+    @Test
+    public void testBucketsThatNeverRefillDoNotExpire() {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(1);
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setPath("/api/v1/users/login");
+        route.setIp(limit);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put(ROUTE, route);
+
+        assertNull(new RateLimiterService(properties, new SimpleMeterRegistry()).getBucketIdleExpiry());
+    }
+
+    @Test
+    public void testUnknownRouteIsNotLimited() {
+        for (int i = 0; i < 10; i++) {
+            assertDoesNotThrow(() -> rateLimiterService.checkUsername("unknown", "John.Doe"));
+        }
+    }
+}
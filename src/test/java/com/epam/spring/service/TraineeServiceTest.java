@@ -1,25 +1,47 @@
 package com.epam.spring.service;
 
 import com.epam.spring.dto.request.trainee.CreateTraineeRequestDTO;
+import com.epam.spring.dto.request.trainee.TrainingIdTrainerUsernamePair;
 import com.epam.spring.dto.request.trainee.UpdateTraineeRequestDTO;
+import com.epam.spring.dto.request.trainee.UpdateTraineeTrainerRequestDTO;
+import com.epam.spring.dto.request.trainer.CreateTrainerRequestDTO;
+import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
+import com.epam.spring.dto.response.BatchItemResultDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
+import com.epam.spring.dto.response.UserImportResultDTO;
 import com.epam.spring.dto.response.trainee.FetchTraineeResponseDTO;
+import com.epam.spring.dto.response.trainee.TraineeResponseDTO;
 import com.epam.spring.dto.response.trainee.UpdateTraineeResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.error.exception.ResourceNotFoundException;
+import com.epam.spring.error.exception.UniqueConstraintException;
+import com.epam.spring.model.User;
+import com.epam.spring.repository.UserRepository;
 import com.epam.spring.service.impl.TraineeService;
+import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingService;
+import com.epam.spring.service.impl.UserImportProcessor;
+import com.epam.spring.service.impl.UsernameReservationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @Rollback
@@ -28,6 +50,18 @@ class TraineeServiceTest {
 
     @Autowired
     private TraineeService traineeService;
+    @Autowired
+    private TrainerService trainerService;
+    @Autowired
+    private TrainingService trainingService;
+    @Autowired
+    private UsernameReservationService usernameReservationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserImportProcessor userImportProcessor;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     private final String FIRST_NAME = "John";
     private final String LAST_NAME = "Doe";
@@ -65,6 +99,72 @@ class TraineeServiceTest {
         assertEquals("John.Doe.1", userCredentialsResponseDTO2.getUsername());
     }
 
+    @Test
+    void testImportTraineesFromCsv() throws Exception {
+        traineeService.create(buildCreateTraineeRequestDTO("Ann", "Lee"));
+        usernameReservationService.invalidate("Ann", "Lee");
+        String csv = """
+                firstName,lastName,dateOfBirth,address
+                Ann,Lee,2000-01-01,Main 1
+                Ann,Lee,,
+                ,Lee,,
+                Bob,Ray,not-a-date,
+                """;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        userImportProcessor.importTrainees(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                UserImportProcessor.TEXT_CSV_VALUE, output);
+
+        List<UserImportResultDTO> results = objectMapper.readerFor(UserImportResultDTO.class)
+                .<UserImportResultDTO>readValues(output.toByteArray())
+                .readAll();
+        assertEquals(4, results.size());
+        assertEquals("Ann.Lee.1", results.get(0).getUsername());
+        assertEquals("Ann.Lee.2", results.get(1).getUsername());
+        assertEquals(10, results.get(1).getPassword().length());
+        assertEquals("Firstname is required", results.get(2).getMessage());
+        assertEquals("Invalid date of birth", results.get(3).getMessage());
+        assertEquals("Main 1", traineeService.getUserProfile("Ann.Lee.1").getAddress());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testCreateRetriesWhenUsernameTakenBehindReservationIndex() {
+        String first = traineeService.create(buildCreateTraineeRequestDTO("Clash", "Member")).getUsername();
+        User conflicting = userRepository.save(User.builder()
+                .firstName("Clash")
+                .lastName("Member")
+                .username("Clash.Member.1")
+                .password("password")
+                .build());
+        String retried = null;
+        try {
+            retried = traineeService.create(buildCreateTraineeRequestDTO("Clash", "Member")).getUsername();
+
+            assertEquals("Clash.Member.2", retried);
+        } finally {
+            traineeService.deleteByUsername(first);
+            if (retried != null) {
+                traineeService.deleteByUsername(retried);
+            }
+            userRepository.delete(conflicting);
+        }
+    }
+
+    @Test
+    void testCreateInsideCallerTransactionDoesNotRetry() {
+        traineeService.create(buildCreateTraineeRequestDTO("Joined", "Member"));
+        userRepository.save(User.builder()
+                .firstName("Joined")
+                .lastName("Member")
+                .username("Joined.Member.1")
+                .password("password")
+                .build());
+
+        assertThrows(UniqueConstraintException.class,
+                () -> traineeService.create(buildCreateTraineeRequestDTO("Joined", "Member")));
+    }
+
     @Test
     void testUpdate() {
         UserCredentialsResponseDTO userCredentialsResponseDTO = traineeService.create(createTraineeRequestDTO);
@@ -104,7 +204,7 @@ class TraineeServiceTest {
         assertEquals(FIRST_NAME, userProfile.getFirstName());
         assertEquals(LAST_NAME, userProfile.getLastName());
         assertEquals(LocalDate.now().minusYears(15).toString(), userProfile.getDateOfBirth());
-        assertNull(userProfile.getTrainers());
+        assertTrue(userProfile.getTrainers().isEmpty());
     }
 
     @Test
@@ -116,4 +216,39 @@ class TraineeServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> traineeService.getUserProfile(username));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUpdateTraineeTrainerListReassignsOnlyOwnTrainings() {
+        String trainee = traineeService.create(createTraineeRequestDTO).getUsername();
+        String otherTrainee = traineeService.create(buildCreateTraineeRequestDTO("Other", "Trainee")).getUsername();
+        String yogaTrainer = trainerService.create(new CreateTrainerRequestDTO("Yoga", "Coach", 1L)).getUsername();
+        String cardioTrainer = trainerService.create(new CreateTrainerRequestDTO("Cardio", "Coach", 2L)).getUsername();
+        String strengthTrainer = trainerService.create(new CreateTrainerRequestDTO("Strength", "Coach", 3L)).getUsername();
+        List<BatchItemResultDTO> trainings = trainingService.createBatch(List.of(
+                buildTrainingRequest(trainee, yogaTrainer),
+                buildTrainingRequest(trainee, cardioTrainer),
+                buildTrainingRequest(otherTrainee, yogaTrainer)), 0);
+
+        List<TrainerResponseDTO> trainers = traineeService.updateTraineeTrainerList(new UpdateTraineeTrainerRequestDTO(trainee, List.of(
+                new TrainingIdTrainerUsernamePair(trainings.get(0).getId(), strengthTrainer),
+                new TrainingIdTrainerUsernamePair(trainings.get(2).getId(), strengthTrainer))));
+
+        assertEquals(List.of(strengthTrainer, cardioTrainer), trainers.stream().map(TrainerResponseDTO::getUsername).toList());
+        assertEquals(3L, trainers.get(0).getSpecialization().getId());
+        assertEquals(List.of(otherTrainee), trainerService.getUserProfile(yogaTrainer).getTrainees().stream()
+                .map(TraineeResponseDTO::getUsername)
+                .toList());
+        assertThrows(NoSuchElementException.class, () -> traineeService.updateTraineeTrainerList(new UpdateTraineeTrainerRequestDTO(trainee,
+                List.of(new TrainingIdTrainerUsernamePair(trainings.get(1).getId(), "missing.trainer")))));
+    }
+
+    private static CreateTrainingRequestDTO buildTrainingRequest(String traineeUsername, String trainerUsername) {
+        return CreateTrainingRequestDTO.builder()
+                .traineeUsername(traineeUsername)
+                .trainerUsername(trainerUsername)
+                .trainingName("Session")
+                .trainingDate(LocalDate.now().plusDays(1).toString())
+                .duration("60")
+                .build();
+    }
+}
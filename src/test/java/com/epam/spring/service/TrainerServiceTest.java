@@ -3,13 +3,16 @@ package com.epam.spring.service;
 import com.epam.spring.dto.request.trainee.CreateTraineeRequestDTO;
 import com.epam.spring.dto.request.trainer.CreateTrainerRequestDTO;
 import com.epam.spring.dto.request.trainer.UpdateTrainerRequestDTO;
+import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainer.FetchTrainerResponseDTO;
+import com.epam.spring.dto.response.trainer.TrainerPageDTO;
 import com.epam.spring.dto.response.trainer.TrainerResponseDTO;
 import com.epam.spring.dto.response.trainer.UpdateTrainerResponseDTO;
 import com.epam.spring.error.exception.ResourceNotFoundException;
 import com.epam.spring.service.impl.TraineeService;
 import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,12 +20,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @Rollback
@@ -37,6 +42,8 @@ class TrainerServiceTest {
     private final String lastName = "Doe";
     @Autowired
     private TraineeService traineeService;
+    @Autowired
+    private TrainingService trainingService;
 
     @BeforeEach
     void setUp() {
@@ -87,7 +94,7 @@ class TrainerServiceTest {
         assertEquals(updatedFirstName, updateTrainerResponseDTO.getFirstName());
         assertEquals(updateLastName, updateTrainerResponseDTO.getLastName());
         assertEquals(Boolean.TRUE, updateTrainerResponseDTO.getActive());
-        assertNull(updateTrainerResponseDTO.getTrainees());
+        assertTrue(updateTrainerResponseDTO.getTrainees().isEmpty());
     }
 
     @Test
@@ -112,10 +119,44 @@ class TrainerServiceTest {
         UserCredentialsResponseDTO createdTrainer = trainerService.create(createTrainerRequestDTO);
         UserCredentialsResponseDTO createdTrainee = traineeService.create(new CreateTraineeRequestDTO("TraineeF", "TraineeL", null, null));
 
-        List<TrainerResponseDTO> unassignedTrainers = trainerService.findUnassignedTrainersByTraineeUsername(createdTrainee.getUsername());
+        List<TrainerResponseDTO> unassignedTrainers = trainerService.findUnassignedTrainersByTraineeUsername(createdTrainee.getUsername(), null, null).getTrainers();
 
         assertNotNull(unassignedTrainers);
         assertEquals(1, unassignedTrainers.size());
         assertEquals(createdTrainer.getUsername(), unassignedTrainers.get(0).getUsername());
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFindUnassignedTrainersForNonExistingTraineeThenThrowException() {
+        trainerService.create(createTrainerRequestDTO);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> trainerService.findUnassignedTrainersByTraineeUsername("not.exists", null, null));
+    }
+
+    @Test
+    void findUnassignedTrainersPagesAndRefreshesAfterTrainingCreated() {
+        UserCredentialsResponseDTO trainer1 = trainerService.create(buildCreateTrainerRequest("Alpha", "Trainer"));
+        UserCredentialsResponseDTO trainer2 = trainerService.create(buildCreateTrainerRequest("Beta", "Trainer"));
+        UserCredentialsResponseDTO trainee = traineeService.create(new CreateTraineeRequestDTO("TraineeF", "TraineeL", null, null));
+
+        TrainerPageDTO firstPage = trainerService.findUnassignedTrainersByTraineeUsername(trainee.getUsername(), null, 1);
+        TrainerPageDTO secondPage = trainerService.findUnassignedTrainersByTraineeUsername(trainee.getUsername(), firstPage.getNextCursor(), 1);
+
+        assertEquals(trainer1.getUsername(), firstPage.getTrainers().get(0).getUsername());
+        assertEquals(trainer2.getUsername(), secondPage.getTrainers().get(0).getUsername());
+        assertNull(secondPage.getNextCursor());
+
+        trainingService.create(CreateTrainingRequestDTO.builder()
+                .traineeUsername(trainee.getUsername())
+                .trainerUsername(trainer1.getUsername())
+                .trainingName("Cardio")
+                .trainingDate(LocalDate.now().plusDays(1).toString())
+                .duration("60")
+                .build());
+
+        TrainerPageDTO refreshed = trainerService.findUnassignedTrainersByTraineeUsername(trainee.getUsername(), null, 1);
+        assertEquals(trainer2.getUsername(), refreshed.getTrainers().get(0).getUsername());
+        assertNull(refreshed.getNextCursor());
+    }
+}
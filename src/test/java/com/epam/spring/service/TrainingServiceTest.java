@@ -5,22 +5,49 @@ import com.epam.spring.dto.request.trainer.CreateTrainerRequestDTO;
 import com.epam.spring.dto.request.training.CreateTrainingRequestDTO;
 import com.epam.spring.dto.request.training.FetchTraineeTrainingsRequestDTO;
 import com.epam.spring.dto.request.training.FetchTrainerTrainingsRequestDTO;
+import com.epam.spring.dto.response.BatchItemResultDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
+import com.epam.spring.dto.response.training.FetchUserTrainingsPageDTO;
 import com.epam.spring.dto.response.training.FetchUserTrainingsResponseDTO;
+import com.epam.spring.error.exception.InvalidCursorException;
+import com.epam.spring.error.exception.ResourceNotFoundException;
+import com.epam.spring.repository.projection.TrainingExportRow;
 import com.epam.spring.service.impl.TraineeService;
 import com.epam.spring.service.impl.TrainerService;
+import com.epam.spring.service.impl.TrainingBatchProcessor;
+import com.epam.spring.service.impl.TrainingExporter;
 import com.epam.spring.service.impl.TrainingService;
+import com.epam.spring.util.ExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.epam.spring.dto.response.BatchItemResultDTO.Status.CREATED;
+import static com.epam.spring.dto.response.BatchItemResultDTO.Status.FAILED;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @Rollback
@@ -33,6 +60,15 @@ class TrainingServiceTest {
     private TraineeService traineeService;
     @Autowired
     private TrainerService trainerService;
+    @Autowired
+    private TrainingBatchProcessor trainingBatchProcessor;
+    @Autowired
+    private TrainingExporter trainingExporter;
+
+    @Value("${training.export.timeout}")
+    private long exportTimeout;
+    @Autowired
+    private ObjectMapper objectMapper;
 
     private CreateTraineeRequestDTO createTraineeRequest;
     private CreateTrainerRequestDTO createTrainerRequest;
@@ -60,13 +96,120 @@ class TrainingServiceTest {
         FetchTraineeTrainingsRequestDTO fetchTraineeTrainingsRequest = new FetchTraineeTrainingsRequestDTO(traineeResponse.getUsername());
         FetchTrainerTrainingsRequestDTO fetchTrainerTrainingsRequest = new FetchTrainerTrainingsRequestDTO(trainerResponse.getUsername());
 
-        List<FetchUserTrainingsResponseDTO> traineeTrainings = trainingService.findTraineeTrainings(fetchTraineeTrainingsRequest);
-        List<FetchUserTrainingsResponseDTO> trainerTrainings = trainingService.findTrainerTrainings(fetchTrainerTrainingsRequest);
+        List<FetchUserTrainingsResponseDTO> traineeTrainings = trainingService.findTraineeTrainings(fetchTraineeTrainingsRequest).getTrainings();
+        List<FetchUserTrainingsResponseDTO> trainerTrainings = trainingService.findTrainerTrainings(fetchTrainerTrainingsRequest).getTrainings();
 
         assertEquals(2, traineeTrainings.size());
         assertEquals(1, trainerTrainings.size());
     }
 
+    @Test
+    public void testFindTraineeTrainingsByCursorPages() {
+        UserCredentialsResponseDTO traineeResponse = traineeService.create(createTraineeRequest);
+        for (int i = 1; i <= 3; i++) {
+            UserCredentialsResponseDTO trainerResponse = trainerService.create(buildCreateTrainerRequest("Trainer" + i, "Trainer" + i, 1L));
+            trainingService.create(buildTrainingRequest(traineeResponse.getUsername(), trainerResponse.getUsername()));
+        }
+
+        FetchTraineeTrainingsRequestDTO request = new FetchTraineeTrainingsRequestDTO(traineeResponse.getUsername());
+        request.setPageSize(2);
+        FetchUserTrainingsPageDTO firstPage = trainingService.findTraineeTrainings(request);
+        request.setCursor(firstPage.getNextCursor());
+        FetchUserTrainingsPageDTO secondPage = trainingService.findTraineeTrainings(request);
+
+        assertEquals(2, firstPage.getTrainings().size());
+        assertNotNull(firstPage.getNextCursor());
+        assertEquals(1, secondPage.getTrainings().size());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    public void testFindTraineeTrainingsWithInvalidCursor() {
+        UserCredentialsResponseDTO traineeResponse = traineeService.create(createTraineeRequest);
+        FetchTraineeTrainingsRequestDTO request = new FetchTraineeTrainingsRequestDTO(traineeResponse.getUsername());
+        request.setCursor("not-a-cursor");
+
+        assertThrows(InvalidCursorException.class, () -> trainingService.findTraineeTrainings(request));
+    }
+
+    @Test
+    public void testCreateBatchReportsResultPerItem() throws Exception {
+        UserCredentialsResponseDTO traineeResponse = traineeService.create(createTraineeRequest);
+        UserCredentialsResponseDTO trainerResponse = trainerService.create(createTrainerRequest);
+        UserCredentialsResponseDTO trainerResponse2 = trainerService.create(buildCreateTrainerRequest("Trainer2", "Trainer2", 2L));
+        CreateTrainingRequestDTO invalid = buildTrainingRequest(traineeResponse.getUsername(), trainerResponse2.getUsername());
+        invalid.setTrainingName("");
+
+        String body = Stream.of(
+                        buildTrainingRequest(traineeResponse.getUsername(), trainerResponse.getUsername()),
+                        buildTrainingRequest(traineeResponse.getUsername(), trainerResponse.getUsername()),
+                        buildTrainingRequest(traineeResponse.getUsername(), "unknown.trainer"),
+                        invalid,
+                        buildTrainingRequest(traineeResponse.getUsername(), trainerResponse2.getUsername()))
+                .map(this::toJson)
+                .collect(Collectors.joining("\n"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        trainingBatchProcessor.process(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<BatchItemResultDTO> results = objectMapper.readerFor(BatchItemResultDTO.class)
+                .<BatchItemResultDTO>readValues(output.toByteArray())
+                .readAll();
+        assertEquals(List.of(CREATED, FAILED, FAILED, FAILED, CREATED),
+                results.stream().map(BatchItemResultDTO::getStatus).toList());
+        assertEquals(List.of(0, 1, 2, 3, 4), results.stream().map(BatchItemResultDTO::getIndex).toList());
+        assertNotNull(results.get(0).getId());
+        assertEquals(2, trainingService.findTraineeTrainings(
+                new FetchTraineeTrainingsRequestDTO(traineeResponse.getUsername())).getTrainings().size());
+    }
+
+    @Test
+    public void testExportTraineeTrainingsStreamsEveryRow() throws Exception {
+        UserCredentialsResponseDTO traineeResponse = traineeService.create(createTraineeRequest);
+        for (int i = 1; i <= 3; i++) {
+            UserCredentialsResponseDTO trainerResponse = trainerService.create(buildCreateTrainerRequest("Exporter" + i, "Exporter" + i, 1L));
+            trainingService.create(buildTrainingRequest(traineeResponse.getUsername(), trainerResponse.getUsername()));
+        }
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+
+        trainingExporter.exportTraineeTrainings(traineeResponse.getUsername(), null, null, ExportFormat.NDJSON).writeTo(ndjson);
+        trainingExporter.exportTraineeTrainings(traineeResponse.getUsername(), null, null, ExportFormat.CSV).writeTo(csv);
+
+        List<TrainingExportRow> rows = objectMapper.readerFor(TrainingExportRow.class)
+                .<TrainingExportRow>readValues(ndjson.toByteArray())
+                .readAll();
+        assertEquals(3, rows.size());
+        assertEquals(traineeResponse.getUsername(), rows.get(0).traineeUsername());
+        assertTrue(rows.get(0).trainerUsername().startsWith("Exporter"));
+        String[] csvLines = csv.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,trainingName,trainingDate,duration,trainingTypeName,traineeUsername,trainerUsername", csvLines[0]);
+        assertEquals(4, csvLines.length);
+        assertThrows(ResourceNotFoundException.class,
+                () -> trainingExporter.exportTraineeTrainings("missing.user", null, null, ExportFormat.CSV));
+    }
+
+    @Test
+    public void testExportUsesItsOwnAsyncTimeout() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+
+        trainingExporter.applyTimeout(request);
+        asyncWebRequest.startAsync();
+
+        assertEquals(exportTimeout, request.getAsyncContext().getTimeout());
+    }
+
+    private String toJson(CreateTrainingRequestDTO request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private CreateTrainingRequestDTO buildTrainingRequest(String traineeUsername, String trainerUsername) {
         return CreateTrainingRequestDTO.builder()
                 .traineeUsername(traineeUsername)
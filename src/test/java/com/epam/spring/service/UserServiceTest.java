@@ -6,6 +6,9 @@ import com.epam.spring.dto.request.user.UserCredentialsRequestDTO;
 import com.epam.spring.dto.response.UserCredentialsResponseDTO;
 import com.epam.spring.dto.response.trainee.FetchTraineeResponseDTO;
 import com.epam.spring.error.exception.IncorrectCredentialsException;
+import com.epam.spring.error.exception.LoginAttemptException;
+import com.epam.spring.service.auth.JwtService;
+import com.epam.spring.service.auth.TokenService;
 import com.epam.spring.service.impl.TraineeService;
 import com.epam.spring.service.impl.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -34,6 +38,12 @@ class UserServiceTest {
     @Autowired
     private TraineeService traineeService;
 
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JwtService jwtService;
+
     private final String FIRST_NAME = "John";
     private final String LAST_NAME = "Doe";
     private CreateTraineeRequestDTO createTraineeRequestDTO;
@@ -56,6 +66,46 @@ class UserServiceTest {
         assertTrue(BCrypt.checkpw("1111111111", userCredentialsResponse.getPassword()));
     }
 
+    @Test
+    public void testLoginRevokesPreviouslyIssuedTokens() {
+        UserCredentialsResponseDTO userCredentialsResponseDTO = traineeService.create(createTraineeRequestDTO);
+        UserCredentialsRequestDTO loginRequest = new UserCredentialsRequestDTO(
+                userCredentialsResponseDTO.getUsername(), userCredentialsResponseDTO.getPassword());
+
+        String firstToken = userService.login(loginRequest).getToken();
+        String secondToken = userService.login(loginRequest).getToken();
+
+        assertFalse(tokenService.isTokenVersionCurrent(jwtService.validateToken(firstToken).orElseThrow()));
+        assertTrue(tokenService.isTokenVersionCurrent(jwtService.validateToken(secondToken).orElseThrow()));
+    }
+
+    @Test
+    public void testLoginWithNewPasswordAfterChangeCredentials() {
+        UserCredentialsResponseDTO userCredentialsResponseDTO = traineeService.create(createTraineeRequestDTO);
+        String username = userCredentialsResponseDTO.getUsername();
+        userService.login(new UserCredentialsRequestDTO(username, userCredentialsResponseDTO.getPassword()));
+
+        userService.changeCredentials(new CredentialChangeRequestDTO(username, userCredentialsResponseDTO.getPassword(), "1111111111"));
+
+        assertDoesNotThrow(() -> userService.login(new UserCredentialsRequestDTO(username, "1111111111")));
+        assertThrows(IncorrectCredentialsException.class,
+                () -> userService.login(new UserCredentialsRequestDTO(username, userCredentialsResponseDTO.getPassword())));
+    }
+
+    @Test
+    public void testLoginBlockedAfterRepeatedFailures() {
+        UserCredentialsResponseDTO userCredentialsResponseDTO = traineeService.create(createTraineeRequestDTO);
+        String username = userCredentialsResponseDTO.getUsername();
+        UserCredentialsRequestDTO wrongCredentials = new UserCredentialsRequestDTO(username, "incorrect password");
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IncorrectCredentialsException.class, () -> userService.login(wrongCredentials));
+        }
+
+        assertThrows(LoginAttemptException.class,
+                () -> userService.login(new UserCredentialsRequestDTO(username, userCredentialsResponseDTO.getPassword())));
+    }
+
     @Test
     public void testChangeCredentialsWithIncorrectOldPassword() {
         UserCredentialsResponseDTO userCredentialsResponseDTO = traineeService.create(createTraineeRequestDTO);
@@ -98,6 +148,18 @@ class UserServiceTest {
         assertTrue(userProfile.isActive());
     }
 
+    @Test
+    void testDeactivateProfileRevokesIssuedTokens() {
+        UserCredentialsResponseDTO userCredentialsResponseDTO = traineeService.create(createTraineeRequestDTO);
+        String username = userCredentialsResponseDTO.getUsername();
+        userService.activateProfile(username);
+        String token = userService.login(new UserCredentialsRequestDTO(username, userCredentialsResponseDTO.getPassword())).getToken();
+
+        userService.activateProfile(username);
+
+        assertFalse(tokenService.isTokenVersionCurrent(jwtService.validateToken(token).orElseThrow()));
+    }
+
     private static CreateTraineeRequestDTO buildCreateTraineeRequestDTO(String firstName, String lastName) {
         return CreateTraineeRequestDTO.builder()
                 .firstName(firstName)
@@ -0,0 +1,74 @@
+package com.epam.spring.service;
+
+import com.epam.spring.service.impl.UsernameReservationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class UsernameReservationServiceTest {
+
+    @Autowired
+    private UsernameReservationService usernameReservationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testConcurrentReservationsAreUnique() throws Exception {
+        int reservations = 400;
+        List<Callable<String>> tasks = IntStream.range(0, reservations)
+                .<Callable<String>>mapToObj(i -> () -> usernameReservationService.reserve("Concurrent", "User"))
+                .toList();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            Set<String> usernames = executor.invokeAll(tasks).stream()
+                    .map(UsernameReservationServiceTest::getUnchecked)
+                    .collect(Collectors.toSet());
+
+            assertEquals(reservations, usernames.size());
+            assertTrue(usernames.contains("Concurrent.User"));
+            assertTrue(usernames.contains("Concurrent.User." + (reservations - 1)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRolledBackReservationIsReused() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        String rolledBack = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return usernameReservationService.reserve("Rolled", "Back");
+        });
+        String reused = transactionTemplate.execute(status -> usernameReservationService.reserve("Rolled", "Back"));
+        String next = usernameReservationService.reserve("Rolled", "Back");
+
+        assertEquals("Rolled.Back", rolledBack);
+        assertEquals("Rolled.Back", reused);
+        assertEquals("Rolled.Back.1", next);
+    }
+
+    private static String getUnchecked(Future<String> future) {
+        try {
+            return future.get();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
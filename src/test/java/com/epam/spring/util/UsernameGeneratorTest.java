@@ -0,0 +1,97 @@
+package com.epam.spring.util;
+
+import com.epam.spring.model.User;
+import com.epam.spring.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Rollback
+@Transactional
+class UsernameGeneratorTest {
+
+    @Autowired
+    private UsernameGenerator usernameGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    public void testBaseUsernameWhenNameIsFree() {
+        assertEquals("John.Doe", usernameGenerator.generateUniqueUsername("John", "Doe"));
+    }
+
+    @Test
+    public void testNextSerialIsNotCumulative() {
+        saveUsers("John.Doe", "John.Doe.1", "John.Doe.2");
+
+        assertEquals("John.Doe.3", usernameGenerator.generateUniqueUsername("John", "Doe"));
+    }
+
+    @Test
+    public void testLikeWildcardsInNameAreEscaped() {
+        saveUsers("Jo_n.Doe", "John.Doe.7");
+
+        assertEquals("Jo_n.Doe.1", usernameGenerator.generateUniqueUsername("Jo_n", "Doe"));
+    }
+
+    @Test
+    public void testSingleQueryRegardlessOfDuplicateCount() {
+        saveDuplicates(10);
+        long tenDuplicatesStatements = countStatements();
+
+        saveDuplicates(200);
+        long twoHundredDuplicatesStatements = countStatements();
+
+        assertEquals(1, tenDuplicatesStatements);
+        assertEquals(1, twoHundredDuplicatesStatements);
+        assertEquals("John.Doe.200", usernameGenerator.generateUniqueUsername("John", "Doe"));
+    }
+
+    private long countStatements() {
+        entityManager.flush();
+        statistics.clear();
+        usernameGenerator.generateUniqueUsername("John", "Doe");
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void saveDuplicates(int count) {
+        userRepository.deleteAllInBatch();
+        saveUsers(IntStream.range(0, count)
+                .mapToObj(i -> i == 0 ? "John.Doe" : "John.Doe." + i)
+                .toArray(String[]::new));
+    }
+
+    private void saveUsers(String... usernames) {
+        for (String username : usernames) {
+            userRepository.save(User.builder()
+                    .firstName("John")
+                    .lastName("Doe")
+                    .username(username)
+                    .password("password")
+                    .isActive(true)
+                    .build());
+        }
+    }
+}